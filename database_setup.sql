@@ -44,12 +44,17 @@ CREATE TABLE reservations (
     number_of_nights INT NOT NULL DEFAULT 0,
     total_cost DECIMAL(10,2) NOT NULL DEFAULT 0.00,
     status VARCHAR(20) NOT NULL DEFAULT 'Confirmed',
+    -- Bumped on every status change; status updates compare-and-set on it
+    version INT NOT NULL DEFAULT 0,
     created_by INT,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP 
         ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (room_id) REFERENCES rooms(room_id),
-    FOREIGN KEY (created_by) REFERENCES users(user_id)
+    FOREIGN KEY (created_by) REFERENCES users(user_id),
+    -- Keyset pagination of the reservation listing (newest first)
+    INDEX idx_reservations_created (created_at, reservation_id),
+    INDEX idx_reservations_status_created (status, created_at, reservation_id)
 );
 
 -- Bills Table
@@ -73,7 +78,9 @@ CREATE TABLE bills (
 
     generated_by INT,
     FOREIGN KEY (reservation_id) REFERENCES reservations(reservation_id),
-    FOREIGN KEY (generated_by) REFERENCES users(user_id)
+    FOREIGN KEY (generated_by) REFERENCES users(user_id),
+    -- Bill listing/export reads newest first without a sort
+    INDEX idx_bills_date (bill_date)
 );
 
 -- Email Logs Table
@@ -86,21 +93,65 @@ CREATE TABLE email_logs (
     sent_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
--- Stored Procedures
-DELIMITER //
-CREATE PROCEDURE GenerateReservationNumber(
-    OUT new_reservation_number VARCHAR(20))
-BEGIN
-    DECLARE next_id INT;
-    DECLARE current_year VARCHAR(4);
-    SET current_year = YEAR(CURDATE());
-    SELECT IFNULL(MAX(reservation_id), 0) + 1 
-        INTO next_id FROM reservations;
-    SET new_reservation_number = CONCAT(
-        'OVR-', current_year, '-', LPAD(next_id, 4, '0'));
-END //
-DELIMITER ;
+-- Email Outbox Table
+-- Every outgoing email is stored here first and sent by background workers.
+-- PENDING rows are retried with backoff; DEAD rows exhausted their attempts.
+CREATE TABLE email_outbox (
+    outbox_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    recipient VARCHAR(100) NOT NULL,
+    subject VARCHAR(200) NOT NULL,
+    body TEXT NOT NULL,
+    status VARCHAR(10) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    -- SENDING rows belong to one node until this time; then any node may retry them
+    locked_until TIMESTAMP NULL,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP NULL,
+    INDEX idx_email_outbox_due (status, next_attempt_at)
+);
+
+-- Stats Counters Table
+-- Running totals kept up to date by the triggers below, so the dashboard
+-- never has to COUNT(*) or SUM() over the whole reservation history.
+-- Each counter is split over 16 slot rows; a trigger adds its delta to one
+-- random slot, so concurrent bookings rarely wait on the same row lock.
+-- Readers SUM the slots. CounterDAO.reconcile() rebuilds them from the
+-- base tables one counter at a time, so a write only waits for the scan
+-- of its own counter (CounterDAO.SLOTS must match the 16 used here).
+CREATE TABLE stats_counters (
+    counter_name VARCHAR(50) NOT NULL,
+    slot TINYINT NOT NULL,
+    counter_value DECIMAL(14,2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+        ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (counter_name, slot)
+);
+
+INSERT INTO stats_counters (counter_name, slot, counter_value)
+WITH RECURSIVE slots (slot) AS (
+    SELECT 0 UNION ALL SELECT slot + 1 FROM slots WHERE slot < 15
+)
+SELECT c.counter_name, slots.slot, 0
+FROM (SELECT 'reservations_total' AS counter_name
+      UNION ALL SELECT 'reservations_confirmed'
+      UNION ALL SELECT 'bills_total'
+      UNION ALL SELECT 'bills_revenue'
+      UNION ALL SELECT 'rooms_occupied') c
+CROSS JOIN slots;
+
+-- Reservation Number Blocks
+-- Next free OVR-YYYY-NNNN number per year. Each node reserves a block of
+-- numbers with one UPDATE ... LAST_INSERT_ID(next_value + n) and hands them
+-- out from memory (ReservationNumberAllocator). A year's row is created on
+-- its first booking, starting after the highest number already issued.
+CREATE TABLE reservation_number_blocks (
+    number_year SMALLINT PRIMARY KEY,
+    next_value BIGINT NOT NULL
+);
 
+-- Stored Procedures
 DELIMITER //
 CREATE PROCEDURE CalculateBill(
     IN p_reservation_id INT,
@@ -149,7 +200,7 @@ BEGIN
            r.guest_name, r.address, r.contact_number,
            r.room_type, rm.room_number, r.check_in_date,
            r.check_out_date, r.number_of_nights,
-           r.total_cost, r.status, rm.rate_per_night,
+           r.total_cost, r.status, r.version, rm.rate_per_night,
            r.created_at
     FROM reservations r
     JOIN rooms rm ON r.room_id = rm.room_id
@@ -192,7 +243,13 @@ CREATE TRIGGER after_reservation_insert
 AFTER INSERT ON reservations
 FOR EACH ROW
 BEGIN
+    -- Picked once: RAND() in the WHERE clause would be re-evaluated per row
+    DECLARE v_slot TINYINT DEFAULT FLOOR(RAND() * 16);
+    UPDATE stats_counters SET counter_value = counter_value + 1
+        WHERE counter_name = 'reservations_total' AND slot = v_slot;
     IF NEW.status = 'Confirmed' THEN
+        UPDATE stats_counters SET counter_value = counter_value + 1
+            WHERE counter_name = 'reservations_confirmed' AND slot = v_slot;
         UPDATE rooms SET status = 'Occupied' 
             WHERE room_id = NEW.room_id;
     END IF;
@@ -204,13 +261,54 @@ CREATE TRIGGER after_reservation_update
 AFTER UPDATE ON reservations
 FOR EACH ROW
 BEGIN
-    IF NEW.status = 'Checked-Out' 
-        OR NEW.status = 'Cancelled' THEN
-        UPDATE rooms SET status = 'Available' 
-            WHERE room_id = NEW.room_id;
-    ELSEIF NEW.status = 'Confirmed' THEN
-        UPDATE rooms SET status = 'Occupied' 
-            WHERE room_id = NEW.room_id;
+    DECLARE v_slot TINYINT DEFAULT FLOOR(RAND() * 16);
+    -- Only a real status change touches the counters and the room
+    IF OLD.status <> NEW.status THEN
+        IF OLD.status = 'Confirmed' THEN
+            UPDATE stats_counters SET counter_value = counter_value - 1
+                WHERE counter_name = 'reservations_confirmed' AND slot = v_slot;
+        ELSEIF NEW.status = 'Confirmed' THEN
+            UPDATE stats_counters SET counter_value = counter_value + 1
+                WHERE counter_name = 'reservations_confirmed' AND slot = v_slot;
+        END IF;
+
+        IF NEW.status = 'Checked-Out' 
+            OR NEW.status = 'Cancelled' THEN
+            UPDATE rooms SET status = 'Available' 
+                WHERE room_id = NEW.room_id;
+        ELSEIF NEW.status = 'Confirmed' THEN
+            UPDATE rooms SET status = 'Occupied' 
+                WHERE room_id = NEW.room_id;
+        END IF;
+    END IF;
+END //
+DELIMITER ;
+
+DELIMITER //
+CREATE TRIGGER after_bill_insert
+AFTER INSERT ON bills
+FOR EACH ROW
+BEGIN
+    DECLARE v_slot TINYINT DEFAULT FLOOR(RAND() * 16);
+    UPDATE stats_counters SET counter_value = counter_value + 1
+        WHERE counter_name = 'bills_total' AND slot = v_slot;
+    UPDATE stats_counters SET counter_value = counter_value + NEW.total_amount
+        WHERE counter_name = 'bills_revenue' AND slot = v_slot;
+END //
+DELIMITER ;
+
+DELIMITER //
+CREATE TRIGGER after_room_update
+AFTER UPDATE ON rooms
+FOR EACH ROW
+BEGIN
+    DECLARE v_slot TINYINT DEFAULT FLOOR(RAND() * 16);
+    IF OLD.status <> 'Occupied' AND NEW.status = 'Occupied' THEN
+        UPDATE stats_counters SET counter_value = counter_value + 1
+            WHERE counter_name = 'rooms_occupied' AND slot = v_slot;
+    ELSEIF OLD.status = 'Occupied' AND NEW.status <> 'Occupied' THEN
+        UPDATE stats_counters SET counter_value = counter_value - 1
+            WHERE counter_name = 'rooms_occupied' AND slot = v_slot;
     END IF;
 END //
 DELIMITER ;
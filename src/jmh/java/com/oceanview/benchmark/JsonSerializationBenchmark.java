@@ -0,0 +1,163 @@
+package com.oceanview.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import com.oceanview.json.JsonSupport;
+import com.oceanview.json.LocalDateAdapter;
+import com.oceanview.model.Bill;
+import com.oceanview.model.Reservation;
+import com.oceanview.model.Room;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonSerializationBenchmark - 10k-element model lists through the registered
+ * TypeAdapters and through reflective Gson with setDateFormat, the setup
+ * the API servlets used before. Output goes to a discarding Writer so only
+ * serialization is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private static final Type RESERVATIONS = new TypeToken<List<Reservation>>() { }.getType();
+    private static final Type BILLS = new TypeToken<List<Bill>>() { }.getType();
+    private static final Type ROOMS = new TypeToken<List<Room>>() { }.getType();
+
+    private final Gson adapters = JsonSupport.gsonBuilder().create();
+    private final Gson reflective = new GsonBuilder()
+        .setDateFormat(JsonSupport.TIMESTAMP_FORMAT)
+        .registerTypeAdapter(LocalDate.class, new LocalDateAdapter().nullSafe())
+        .create();
+
+    private List<Reservation> reservations;
+    private List<Bill> bills;
+    private List<Room> rooms;
+
+    @Setup
+    public void setUp() {
+        reservations = new ArrayList<>(ROWS);
+        bills = new ArrayList<>(ROWS);
+        rooms = new ArrayList<>(ROWS);
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        Timestamp created = Timestamp.valueOf("2025-01-01 09:30:00");
+
+        for (int i = 0; i < ROWS; i++) {
+            LocalDate checkIn = start.plusDays(i % 365);
+            Reservation r = new Reservation("Guest " + i, i + " Galle Road, Colombo", "0771234567",
+                i % 20 + 1, "Double", checkIn, checkIn.plusDays(3), 1);
+            r.setReservationId(i + 1);
+            r.setReservationNumber(String.format("OVR-2025-%04d", i));
+            r.setNumberOfNights(3);
+            r.setTotalCost(24000.0);
+            r.setStatus("Confirmed");
+            r.setCreatedAt(created);
+            r.setRoomNumber("2" + (i % 20));
+            r.setRatePerNight(8000.0);
+            reservations.add(r);
+
+            Bill b = new Bill();
+            b.setBillId(i + 1);
+            b.setReservationId(i + 1);
+            b.setReservationNumber(r.getReservationNumber());
+            b.setGuestName(r.getGuestName());
+            b.setRoomType("Double");
+            b.setRoomNumber(r.getRoomNumber());
+            b.setCheckInDate(checkIn);
+            b.setCheckOutDate(checkIn.plusDays(3));
+            b.setNumberOfNights(3);
+            b.setRatePerNight(8000.0);
+            b.setTotalAmount(24000.0);
+            b.setBillDate(created);
+            b.setPaymentStatus("PAID");
+            b.setPaymentMethod("CARD");
+            b.setPaidAt(created);
+            bills.add(b);
+
+            rooms.add(new Room(i + 1, "R" + i, "Double", 8000.0, "Available", "Sea view"));
+        }
+    }
+
+    @Benchmark
+    public void reservations(Blackhole bh) {
+        adapters.toJson(reservations, RESERVATIONS, new NullWriter(bh));
+    }
+
+    @Benchmark
+    public void reservationsReflective(Blackhole bh) {
+        reflective.toJson(reservations, RESERVATIONS, new NullWriter(bh));
+    }
+
+    @Benchmark
+    public void bills(Blackhole bh) {
+        adapters.toJson(bills, BILLS, new NullWriter(bh));
+    }
+
+    @Benchmark
+    public void billsReflective(Blackhole bh) {
+        reflective.toJson(bills, BILLS, new NullWriter(bh));
+    }
+
+    @Benchmark
+    public void rooms(Blackhole bh) {
+        adapters.toJson(rooms, ROOMS, new NullWriter(bh));
+    }
+
+    @Benchmark
+    public void roomsReflective(Blackhole bh) {
+        reflective.toJson(rooms, ROOMS, new NullWriter(bh));
+    }
+
+    /**
+     * Discards output, feeding it to the Blackhole so it isn't optimised away
+     */
+    private static final class NullWriter extends Writer {
+        private final Blackhole bh;
+
+        NullWriter(Blackhole bh) {
+            this.bh = bh;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            bh.consume(cbuf);
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            bh.consume(str);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
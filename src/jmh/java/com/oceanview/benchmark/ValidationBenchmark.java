@@ -0,0 +1,106 @@
+package com.oceanview.benchmark;
+
+import com.oceanview.service.ValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ValidationBenchmark - ValidationService against the regex versions it replaced
+ * The "regex" benchmarks are copies of the old String.matches / repeated
+ * LocalDate.parse implementations, so both can be compared in one run.
+ * Run with -Djmh.args="-prof gc" to see the allocation rate of each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private final ValidationService validationService = new ValidationService();
+
+    private String guestName = "Kamal Silva";
+    private String contactNumber = "+94771234567";
+    private String username = "reception01";
+    private String reservationNumber = "OVR-2025-0001";
+    private String checkIn = "2030-03-01";
+    private String checkOut = "2030-03-04";
+
+    @Benchmark
+    public boolean guestName() {
+        return validationService.isValidGuestName(guestName);
+    }
+
+    @Benchmark
+    public boolean guestNameRegex() {
+        return guestName.matches("^[a-zA-Z\\s]{2,100}$");
+    }
+
+    @Benchmark
+    public boolean contactNumber() {
+        return validationService.isValidContactNumber(contactNumber);
+    }
+
+    @Benchmark
+    public boolean contactNumberRegex() {
+        return contactNumber.matches("^(\\+94|0)?[0-9]{9,10}$");
+    }
+
+    @Benchmark
+    public boolean username() {
+        return validationService.isValidUsername(username);
+    }
+
+    @Benchmark
+    public boolean usernameRegex() {
+        return username.matches("^[a-zA-Z0-9]{3,50}$");
+    }
+
+    @Benchmark
+    public boolean reservationNumber() {
+        return validationService.isValidReservationNumber(reservationNumber);
+    }
+
+    @Benchmark
+    public boolean reservationNumberRegex() {
+        return reservationNumber.matches("^OVR-\\d{4}-\\d{4}$");
+    }
+
+    @Benchmark
+    public boolean checkOutDate() {
+        return validationService.isValidCheckOutDate(checkIn, checkOut);
+    }
+
+    @Benchmark
+    public boolean checkOutDateRegex() {
+        if (!isValidDateOld(checkIn) || !isValidDateOld(checkOut)) {
+            return false;
+        }
+        return LocalDate.parse(checkOut).isAfter(LocalDate.parse(checkIn));
+    }
+
+    private static boolean isValidDateOld(String date) {
+        if (date == null || date.trim().isEmpty()) {
+            return false;
+        }
+        try {
+            LocalDate.parse(date, DateTimeFormatter.ISO_LOCAL_DATE);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+}
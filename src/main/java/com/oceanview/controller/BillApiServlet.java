@@ -1,8 +1,11 @@
 package com.oceanview.controller;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.oceanview.json.BillAdapter;
+import com.oceanview.json.JsonSupport;
 import com.oceanview.model.Bill;
+import com.oceanview.model.Projection;
+import com.oceanview.service.ReportService;
 import com.oceanview.service.ReservationService;
 
 import javax.servlet.ServletException;
@@ -13,7 +16,6 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @WebServlet("/api/bills")
@@ -21,12 +23,14 @@ public class BillApiServlet extends HttpServlet {
 
     private static final long serialVersionUID = 1L;
     private ReservationService reservationService;
+    private ReportService reportService;
     private Gson gson;
 
     @Override
     public void init() throws ServletException {
         reservationService = new ReservationService();
-        gson = new GsonBuilder().setDateFormat("yyyy-MM-dd HH:mm:ss").create();
+        reportService = new ReportService();
+        gson = JsonSupport.gsonBuilder().create();
     }
 
     @Override
@@ -34,38 +38,49 @@ public class BillApiServlet extends HttpServlet {
                          HttpServletResponse response)
             throws ServletException, IOException {
 
+        String action = request.getParameter("action");
+        String reservationIdStr = request.getParameter("reservationId");
+
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
+
+        // ?fields=a,b,c limits both the columns read and the JSON written
+        Projection fields;
+        try {
+            fields = Projection.parse(request.getParameter("fields"), BillAdapter.FIELDS);
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            response.getWriter().print(gson.toJson(error));
+            return;
+        }
+
+        if (!"revenue".equals(action) && reservationIdStr == null) {
+            // Full bill listing (any action other than revenue) - streamed row by row rather than built in memory
+            JsonArrayStream.write(response, JsonSupport.gson(fields), Bill.class,
+                handler -> reservationService.streamBills(fields, handler));
+            return;
+        }
+
         PrintWriter out = response.getWriter();
-        String action = request.getParameter("action");
-        String reservationIdStr = request.getParameter("reservationId");
 
         try {
             if ("revenue".equals(action)) {
-                List<Bill> bills = reservationService.getAllBills();
-                double totalRevenue = bills.stream()
-                    .mapToDouble(Bill::getTotalAmount).sum();
+                // Count and sum come from one aggregate query, not the bill rows
+                out.print(gson.toJson(reportService.getRevenueSummary()));
 
-                Map<String, Object> revenue = new HashMap<>();
-                revenue.put("totalBills", bills.size());
-                revenue.put("totalRevenue", totalRevenue);
-                out.print(gson.toJson(revenue));
-
-            } else if (reservationIdStr != null) {
+            } else {
                 int reservationId = Integer.parseInt(reservationIdStr);
                 Bill bill = reservationService.getBillByReservationId(reservationId);
                 if (bill != null) {
-                    out.print(gson.toJson(bill));
+                    out.print(JsonSupport.gson(fields).toJson(bill));
                 } else {
                     response.setStatus(HttpServletResponse.SC_NOT_FOUND);
                     Map<String, String> error = new HashMap<>();
                     error.put("error", "Bill not found");
                     out.print(gson.toJson(error));
                 }
-
-            } else {
-                List<Bill> bills = reservationService.getAllBills();
-                out.print(gson.toJson(bills));
             }
 
         } catch (Exception e) {
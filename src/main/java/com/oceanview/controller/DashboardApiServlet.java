@@ -1,8 +1,9 @@
 package com.oceanview.controller;
 
 import com.google.gson.Gson;
-import com.oceanview.service.ReportService;
-import com.oceanview.service.RoomService;
+import com.oceanview.json.JsonSupport;
+import com.oceanview.model.DashboardStats;
+import com.oceanview.service.DashboardStatsService;
 
 import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
@@ -25,15 +26,13 @@ import java.util.Map;
 public class DashboardApiServlet extends HttpServlet {
 
     private static final long serialVersionUID = 1L;
-    private ReportService reportService;
-    private RoomService roomService;
+    private DashboardStatsService dashboardStatsService;
     private Gson gson;
 
     @Override
     public void init() throws ServletException {
-        reportService = new ReportService();
-        roomService = new RoomService();
-        gson = new Gson();
+        dashboardStatsService = DashboardStatsService.getInstance();
+        gson = JsonSupport.gsonBuilder().create();
     }
 
     /**
@@ -54,32 +53,25 @@ public class DashboardApiServlet extends HttpServlet {
         String action = request.getParameter("action");
 
         try {
+            // One shared snapshot answers every action
+            DashboardStats snapshot = dashboardStatsService.getStats();
+
             if ("rooms".equals(action)) {
                 // Room availability counts only
                 Map<String, Integer> rooms = new HashMap<>();
-                rooms.put("single",
-                    roomService.getAvailableRoomCount("Single"));
-                rooms.put("double",
-                    roomService.getAvailableRoomCount("Double"));
-                rooms.put("deluxe",
-                    roomService.getAvailableRoomCount("Deluxe"));
-                rooms.put("suite",
-                    roomService.getAvailableRoomCount("Suite"));
-                rooms.put("totalAvailable",
-                    roomService.getAvailableRoomCount("Single") +
-                    roomService.getAvailableRoomCount("Double") +
-                    roomService.getAvailableRoomCount("Deluxe") +
-                    roomService.getAvailableRoomCount("Suite"));
+                rooms.put("single", snapshot.getSingleAvail());
+                rooms.put("double", snapshot.getDoubleAvail());
+                rooms.put("deluxe", snapshot.getDeluxeAvail());
+                rooms.put("suite", snapshot.getSuiteAvail());
+                rooms.put("totalAvailable", snapshot.getTotalAvailableByType());
 
                 out.print(gson.toJson(rooms));
 
             } else if ("revenue".equals(action)) {
                 // Revenue stats only
                 Map<String, Object> revenue = new HashMap<>();
-                revenue.put("totalRevenue",
-                    reportService.getTotalRevenue());
-                revenue.put("totalBills",
-                    reportService.getTotalBillCount());
+                revenue.put("totalRevenue", snapshot.getTotalRevenue());
+                revenue.put("totalBills", snapshot.getTotalBills());
 
                 out.print(gson.toJson(revenue));
 
@@ -88,40 +80,25 @@ public class DashboardApiServlet extends HttpServlet {
                 Map<String, Object> stats = new HashMap<>();
 
                 // Room stats
-                int totalRooms = reportService.getTotalRoomCount();
-                int occupiedRooms =
-                    reportService.getOccupiedRoomCount();
-                int availableRooms = totalRooms - occupiedRooms;
-                double occupancyRate = totalRooms > 0 ?
-                    ((double) occupiedRooms / totalRooms) * 100 : 0;
-
-                stats.put("totalRooms", totalRooms);
-                stats.put("occupiedRooms", occupiedRooms);
-                stats.put("availableRooms", availableRooms);
+                stats.put("totalRooms", snapshot.getTotalRooms());
+                stats.put("occupiedRooms", snapshot.getOccupiedRooms());
+                stats.put("availableRooms", snapshot.getAvailableRooms());
                 stats.put("occupancyRate",
-                    Math.round(occupancyRate * 10.0) / 10.0);
+                    Math.round(snapshot.getOccupancyRate() * 10.0) / 10.0);
 
                 // Room availability by type
-                stats.put("singleAvail",
-                    roomService.getAvailableRoomCount("Single"));
-                stats.put("doubleAvail",
-                    roomService.getAvailableRoomCount("Double"));
-                stats.put("deluxeAvail",
-                    roomService.getAvailableRoomCount("Deluxe"));
-                stats.put("suiteAvail",
-                    roomService.getAvailableRoomCount("Suite"));
+                stats.put("singleAvail", snapshot.getSingleAvail());
+                stats.put("doubleAvail", snapshot.getDoubleAvail());
+                stats.put("deluxeAvail", snapshot.getDeluxeAvail());
+                stats.put("suiteAvail", snapshot.getSuiteAvail());
 
                 // Reservation stats
-                stats.put("totalReservations",
-                    reportService.getTotalReservationCount());
-                stats.put("activeReservations",
-                    reportService.getActiveReservationCount());
+                stats.put("totalReservations", snapshot.getTotalReservations());
+                stats.put("activeReservations", snapshot.getActiveReservations());
 
                 // Revenue stats
-                stats.put("totalRevenue",
-                    reportService.getTotalRevenue());
-                stats.put("totalBills",
-                    reportService.getTotalBillCount());
+                stats.put("totalRevenue", snapshot.getTotalRevenue());
+                stats.put("totalBills", snapshot.getTotalBills());
 
                 out.print(gson.toJson(stats));
             }
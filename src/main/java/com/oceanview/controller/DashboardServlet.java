@@ -1,8 +1,9 @@
 package com.oceanview.controller;
 
+import com.oceanview.model.DashboardStats;
 import com.oceanview.model.Reservation;
+import com.oceanview.service.DashboardStatsService;
 import com.oceanview.service.ReservationService;
-import com.oceanview.service.RoomService;
 
 import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
@@ -21,12 +22,13 @@ import java.util.List;
 public class DashboardServlet extends HttpServlet {
 
     private static final long serialVersionUID = 1L;
-    private RoomService roomService;
+    private static final int RECENT_RESERVATIONS = 10;
+    private DashboardStatsService dashboardStatsService;
     private ReservationService reservationService;
 
     @Override
     public void init() throws ServletException {
-        roomService = new RoomService();
+        dashboardStatsService = DashboardStatsService.getInstance();
         reservationService = new ReservationService();
     }
 
@@ -34,19 +36,17 @@ public class DashboardServlet extends HttpServlet {
     protected void doGet(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
 
-        // Get room availability counts using MySQL Function
-        int singleCount = roomService.getAvailableRoomCount("Single");
-        int doubleCount = roomService.getAvailableRoomCount("Double");
-        int deluxeCount = roomService.getAvailableRoomCount("Deluxe");
-        int suiteCount = roomService.getAvailableRoomCount("Suite");
+        // Room availability counts from the shared dashboard snapshot
+        DashboardStats stats = dashboardStatsService.getStats();
 
-        request.setAttribute("singleCount", singleCount);
-        request.setAttribute("doubleCount", doubleCount);
-        request.setAttribute("deluxeCount", deluxeCount);
-        request.setAttribute("suiteCount", suiteCount);
+        request.setAttribute("singleCount", stats.getSingleAvail());
+        request.setAttribute("doubleCount", stats.getDoubleAvail());
+        request.setAttribute("deluxeCount", stats.getDeluxeAvail());
+        request.setAttribute("suiteCount", stats.getSuiteAvail());
 
-        // Get all reservations for dashboard table
-        List<Reservation> reservations = reservationService.getAllReservations();
+        // Latest reservations only - the full history is on the paginated list page
+        List<Reservation> reservations =
+            reservationService.getRecentReservations(RECENT_RESERVATIONS);
         request.setAttribute("reservations", reservations);
 
         request.getRequestDispatcher("/dashboard.jsp").forward(request, response);
@@ -0,0 +1,179 @@
+package com.oceanview.controller;
+
+import com.google.gson.Gson;
+import com.oceanview.service.DashboardUpdates;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+
+/**
+ * DashboardStreamServlet - Server-Sent Events stream of dashboard statistics
+ * URL: /api/dashboard/stream
+ * Sends a "snapshot" event with every counter on connect, then "stats"
+ * events carrying only the counters that changed. Each open dashboard holds
+ * an async request rather than a container thread.
+ *
+ * Frames are written with non-blocking I/O from a short per-stream queue.
+ * A client that stops reading (a sleeping laptop, a full TCP window) is
+ * closed once MAX_PENDING frames are waiting; EventSource reconnects later.
+ */
+@WebServlet(urlPatterns = "/api/dashboard/stream", asyncSupported = true)
+public class DashboardStreamServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+
+    // EventSource reconnects by itself once the stream times out
+    private static final long STREAM_TIMEOUT_MS = 30 * 60 * 1000;
+    private static final int RETRY_MS = 5000;
+    private static final int MAX_PENDING = 8;
+
+    private DashboardUpdates dashboardUpdates;
+    private Gson gson;
+
+    @Override
+    public void init() throws ServletException {
+        dashboardUpdates = DashboardUpdates.getInstance();
+        gson = new Gson();
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request,
+                         HttpServletResponse response)
+            throws ServletException, IOException {
+
+        response.setContentType("text/event-stream;charset=UTF-8");
+        response.setHeader("Cache-Control", "no-cache");
+        response.setHeader("X-Accel-Buffering", "no");
+
+        AsyncContext async = request.startAsync();
+        async.setTimeout(STREAM_TIMEOUT_MS);
+
+        EventStream stream = new EventStream(async, response.getOutputStream());
+        async.addListener(stream);
+        stream.out.setWriteListener(stream);
+        stream.enqueue("retry: " + RETRY_MS + "\n\n");
+        dashboardUpdates.subscribe(stream);
+    }
+
+    /**
+     * One open EventSource connection
+     */
+    private final class EventStream implements DashboardUpdates.Subscriber, AsyncListener, WriteListener {
+
+        private final AsyncContext async;
+        private final ServletOutputStream out;
+        private final Deque<byte[]> pending = new ArrayDeque<>();
+        private boolean closed;
+
+        EventStream(AsyncContext async, ServletOutputStream out) {
+            this.async = async;
+            this.out = out;
+        }
+
+        @Override
+        public boolean send(String event, Map<String, Object> data) {
+            return enqueue("event: " + event + "\ndata: " + gson.toJson(data) + "\n\n");
+        }
+
+        @Override
+        public boolean heartbeat() {
+            return enqueue(": ping\n\n");
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!closed) {
+                closed = true;
+                pending.clear();
+                try {
+                    async.complete();
+                } catch (IllegalStateException e) {
+                    // Already completed by the container
+                }
+            }
+        }
+
+        /**
+         * Queue a frame and write whatever the connection accepts without blocking
+         */
+        synchronized boolean enqueue(String frame) {
+            if (closed) {
+                return false;
+            }
+            if (pending.size() >= MAX_PENDING) {
+                // The client has stopped reading - don't wait for it
+                close();
+                return false;
+            }
+            pending.add(frame.getBytes(StandardCharsets.UTF_8));
+            drain();
+            return !closed;
+        }
+
+        private void drain() {
+            try {
+                while (!closed && out.isReady()) {
+                    byte[] frame = pending.poll();
+                    if (frame == null) {
+                        return;
+                    }
+                    out.write(frame);
+                    if (out.isReady()) {
+                        out.flush();
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            }
+        }
+
+        @Override
+        public synchronized void onWritePossible() {
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            dashboardUpdates.unsubscribe(this);
+            close();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            dashboardUpdates.unsubscribe(this);
+            synchronized (this) {
+                closed = true;
+                pending.clear();
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            dashboardUpdates.unsubscribe(this);
+            close();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            dashboardUpdates.unsubscribe(this);
+            close();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
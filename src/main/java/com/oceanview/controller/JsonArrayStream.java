@@ -0,0 +1,85 @@
+package com.oceanview.controller;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import com.oceanview.dao.RowHandler;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.SQLException;
+import java.util.Collections;
+
+/**
+ * JsonArrayStream - Writes a JSON array to the response one element at a time
+ * Rows go from the JDBC result set through a Gson JsonWriter straight into
+ * the response, so large exports never build a List or a big String.
+ */
+class JsonArrayStream<T> implements RowHandler<T> {
+
+    // Push the first rows out early instead of waiting for a full buffer
+    private static final int FIRST_FLUSH_ROWS = 50;
+
+    /**
+     * Produces the rows; called once with the handler that writes them
+     */
+    @FunctionalInterface
+    interface Source<T> {
+        int stream(RowHandler<T> handler) throws SQLException, IOException;
+    }
+
+    private final Gson gson;
+    private final Class<T> type;
+    private final JsonWriter writer;
+    private int written;
+
+    private JsonArrayStream(Gson gson, Class<T> type, Writer out) throws IOException {
+        this.gson = gson;
+        this.type = type;
+        this.writer = gson.newJsonWriter(out);
+    }
+
+    /**
+     * Stream the source to the response as a JSON array.
+     * If the source fails before anything is committed, the partial array is
+     * discarded and the answer is an error object (400 for a bad argument,
+     * 500 otherwise); after that the array is cut short and the failure is
+     * only logged.
+     */
+    static <T> void write(HttpServletResponse response, Gson gson, Class<T> type,
+                          Source<T> source) throws IOException {
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.setBufferSize(16 * 1024);
+
+        JsonArrayStream<T> stream = new JsonArrayStream<>(gson, type, response.getWriter());
+        try {
+            stream.writer.beginArray();
+            source.stream(stream);
+            stream.writer.endArray();
+            stream.writer.flush();
+        } catch (SQLException | RuntimeException e) {
+            System.err.println("Error streaming " + type.getSimpleName() + " rows after "
+                + stream.written + " rows: " + e.getMessage());
+            if (!response.isCommitted()) {
+                response.resetBuffer();
+                if (e instanceof IllegalArgumentException) {
+                    response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                    response.getWriter().print(gson.toJson(
+                        Collections.singletonMap("error", e.getMessage())));
+                } else {
+                    response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                    response.getWriter().print("{\"error\":\"Export failed\"}");
+                }
+            }
+        }
+    }
+
+    @Override
+    public void handle(T row) throws IOException {
+        gson.toJson(row, type, writer);
+        if (++written == FIRST_FLUSH_ROWS) {
+            writer.flush();
+        }
+    }
+}
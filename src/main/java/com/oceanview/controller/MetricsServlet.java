@@ -0,0 +1,219 @@
+package com.oceanview.controller;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.oceanview.dao.DBConnection;
+import com.oceanview.dao.EmailLogAppender;
+import com.oceanview.dao.QueryStats;
+import com.oceanview.dao.RoomCatalogCache;
+import com.oceanview.metrics.EndpointStats;
+import com.oceanview.metrics.LatencyHistogram;
+import com.oceanview.metrics.MetricsRegistry;
+import com.oceanview.service.BookingLatency;
+import com.oceanview.service.BookingLocks;
+import com.oceanview.service.DashboardUpdates;
+import com.oceanview.service.EmailOutbox;
+import com.oceanview.service.ReportAssembler;
+
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MetricsServlet - Request and component metrics for monitoring
+ * URL: /api/metrics (JSON) or /api/metrics?format=prometheus (text exposition)
+ * Admin only. /api/* is otherwise public, so the role is checked here.
+ */
+@WebServlet("/api/metrics")
+public class MetricsServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+    private static final double[] QUANTILES = { 0.5, 0.95, 0.99 };
+    private static final int TOP_STATEMENTS = 20;
+
+    private MetricsRegistry registry;
+    private Gson gson;
+
+    @Override
+    public void init() throws ServletException {
+        registry = MetricsRegistry.getInstance();
+        gson = new GsonBuilder().setPrettyPrinting().create();
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request,
+                         HttpServletResponse response)
+            throws ServletException, IOException {
+
+        HttpSession session = request.getSession(false);
+        if (session == null || !"admin".equals(session.getAttribute("role"))) {
+            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            response.setContentType("application/json");
+            response.setCharacterEncoding("UTF-8");
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Admin login required");
+            response.getWriter().print(gson.toJson(error));
+            return;
+        }
+
+        if ("prometheus".equals(request.getParameter("format"))) {
+            response.setContentType("text/plain; version=0.0.4");
+            response.setCharacterEncoding("UTF-8");
+            writePrometheus(response.getWriter());
+        } else {
+            response.setContentType("application/json");
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().print(gson.toJson(buildJson()));
+        }
+    }
+
+    private Map<String, Object> buildJson() {
+        double uptimeSeconds = registry.getUptimeMillis() / 1000.0;
+
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (EndpointStats stats : registry.getEndpoints()) {
+            LatencyHistogram latency = stats.getLatency();
+            long requests = stats.getRequestCount();
+
+            Map<String, Object> e = new LinkedHashMap<>();
+            e.put("endpoint", stats.getKey());
+            e.put("requests", requests);
+            e.put("errors", stats.getErrorCount());
+            e.put("errorRate", requests > 0 ? (double) stats.getErrorCount() / requests : 0.0);
+            e.put("requestsPerSecond", uptimeSeconds > 0 ? requests / uptimeSeconds : 0.0);
+            e.put("meanMs", requests > 0 ? latency.getSumMicros() / 1000.0 / requests : 0.0);
+            e.put("p50Ms", latency.getValueAtQuantile(0.5) / 1000.0);
+            e.put("p95Ms", latency.getValueAtQuantile(0.95) / 1000.0);
+            e.put("p99Ms", latency.getValueAtQuantile(0.99) / 1000.0);
+            e.put("maxMs", latency.getMaxMicros() / 1000.0);
+            endpoints.add(e);
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("uptimeSeconds", uptimeSeconds);
+        body.put("endpoints", endpoints);
+        body.putAll(componentGauges());
+        body.put("bookingStages", BookingLatency.snapshot());
+        body.put("sql", sqlStatements());
+        return body;
+    }
+
+    /**
+     * The statements with the most total time
+     */
+    private List<Map<String, Object>> sqlStatements() {
+        List<Map<String, Object>> statements = new ArrayList<>();
+        for (QueryStats.SqlStats stats : QueryStats.getInstance().getTopStatements(TOP_STATEMENTS)) {
+            LatencyHistogram latency = stats.getLatency();
+            long count = latency.getCount();
+
+            Map<String, Object> s = new LinkedHashMap<>();
+            s.put("sql", stats.getSql());
+            s.put("count", count);
+            s.put("errors", stats.getErrorCount());
+            s.put("totalMs", latency.getSumMicros() / 1000.0);
+            s.put("meanMs", count > 0 ? latency.getSumMicros() / 1000.0 / count : 0.0);
+            s.put("p95Ms", latency.getValueAtQuantile(0.95) / 1000.0);
+            s.put("maxMs", latency.getMaxMicros() / 1000.0);
+            statements.add(s);
+        }
+        return statements;
+    }
+
+    /**
+     * Connection pool, caches and background queues, grouped by component
+     */
+    private Map<String, Map<String, Object>> componentGauges() {
+        DBConnection pool = DBConnection.getInstance();
+        Map<String, Object> poolStats = new LinkedHashMap<>();
+        poolStats.put("open", pool.getOpenConnectionCount());
+        poolStats.put("idle", pool.getIdleConnectionCount());
+        poolStats.put("active", pool.getActiveConnectionCount());
+        poolStats.put("max", pool.getMaxPoolSize());
+
+        QueryStats queries = QueryStats.getInstance();
+        Map<String, Object> sqlStats = new LinkedHashMap<>();
+        sqlStats.put("queries", queries.getQueryCount());
+        sqlStats.put("slowQueries", queries.getSlowQueryCount());
+
+        Map<String, Object> streamStats = new LinkedHashMap<>();
+        streamStats.put("subscribers", DashboardUpdates.getInstance().getSubscriberCount());
+
+        Map<String, Map<String, Object>> gauges = new LinkedHashMap<>();
+        gauges.put("dbPool", poolStats);
+        gauges.put("dbQueries", sqlStats);
+        gauges.put("roomCache", RoomCatalogCache.getInstance().getStats());
+        gauges.put("bookingLock", BookingLocks.get().getStats());
+        gauges.put("dashboardStream", streamStats);
+        gauges.put("reports", ReportAssembler.getInstance().getStats());
+        gauges.put("emailOutbox", EmailOutbox.getInstance().getStats());
+        gauges.put("emailLog", EmailLogAppender.getInstance().getStats());
+        return gauges;
+    }
+
+    private void writePrometheus(PrintWriter out) {
+        out.println("# HELP oceanview_http_request_duration_seconds Request latency by endpoint");
+        out.println("# TYPE oceanview_http_request_duration_seconds summary");
+        List<EndpointStats> endpoints = registry.getEndpoints();
+        for (EndpointStats stats : endpoints) {
+            LatencyHistogram latency = stats.getLatency();
+            String label = "endpoint=\"" + escape(stats.getKey()) + "\"";
+            for (double q : QUANTILES) {
+                out.println("oceanview_http_request_duration_seconds{" + label + ",quantile=\"" + q + "\"} "
+                    + latency.getValueAtQuantile(q) / 1_000_000.0);
+            }
+            out.println("oceanview_http_request_duration_seconds_sum{" + label + "} "
+                + latency.getSumMicros() / 1_000_000.0);
+            out.println("oceanview_http_request_duration_seconds_count{" + label + "} " + latency.getCount());
+        }
+
+        out.println("# HELP oceanview_http_request_duration_max_seconds Slowest request by endpoint");
+        out.println("# TYPE oceanview_http_request_duration_max_seconds gauge");
+        for (EndpointStats stats : endpoints) {
+            out.println("oceanview_http_request_duration_max_seconds{endpoint=\"" + escape(stats.getKey()) + "\"} "
+                + stats.getLatency().getMaxMicros() / 1_000_000.0);
+        }
+
+        out.println("# HELP oceanview_http_request_errors_total Requests that failed with a 5xx or exception");
+        out.println("# TYPE oceanview_http_request_errors_total counter");
+        for (EndpointStats stats : endpoints) {
+            out.println("oceanview_http_request_errors_total{endpoint=\"" + escape(stats.getKey()) + "\"} "
+                + stats.getErrorCount());
+        }
+
+        for (Map.Entry<String, Map<String, Object>> group : componentGauges().entrySet()) {
+            for (Map.Entry<String, Object> gauge : group.getValue().entrySet()) {
+                if (gauge.getValue() instanceof Number) {
+                    String name = "oceanview_" + snakeCase(group.getKey()) + "_" + snakeCase(gauge.getKey());
+                    out.println("# TYPE " + name + " gauge");
+                    out.println(name + " " + gauge.getValue());
+                }
+            }
+        }
+
+        out.println("# TYPE oceanview_booking_stage_seconds_avg gauge");
+        for (Map.Entry<String, Map<String, Object>> stage : BookingLatency.snapshot().entrySet()) {
+            out.println("oceanview_booking_stage_seconds_avg{stage=\"" + stage.getKey() + "\"} "
+                + ((Number) stage.getValue().get("avgMs")).doubleValue() / 1000.0);
+        }
+        out.flush();
+    }
+
+    private static String snakeCase(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase();
+    }
+
+    private static String escape(String label) {
+        return label.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
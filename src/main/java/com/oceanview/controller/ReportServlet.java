@@ -1,11 +1,14 @@
 package com.oceanview.controller;
 
 import com.oceanview.dao.BillDAO;
-import com.oceanview.dao.ReservationDAO;
+import com.oceanview.dao.DAOFactory;
 import com.oceanview.dao.RoomDAO;
 import com.oceanview.model.Bill;
+import com.oceanview.model.DashboardStats;
 import com.oceanview.model.Reservation;
 import com.oceanview.model.Room;
+import com.oceanview.service.DashboardStatsService;
+import com.oceanview.service.ReportAssembler;
 import com.oceanview.service.ReportService;
 
 import javax.servlet.ServletException;
@@ -14,23 +17,34 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 @WebServlet("/reports")
 public class ReportServlet extends HttpServlet {
 
     private static final long serialVersionUID = 1L;
+
+    // Report sections, also shown to the user if one can't be loaded
+    private static final String OCCUPANCY = "room occupancy";
+    private static final String SUMMARY = "summary statistics";
+    private static final String REVENUE_BY_TYPE = "revenue by room type";
+    private static final String RANGE_RESERVATIONS = "date range reservations";
+    private static final String RANGE_REVENUE = "date range revenue";
+
     private RoomDAO roomDAO;
     private BillDAO billDAO;
-    private ReservationDAO reservationDAO;
     private ReportService reportService;
+    private DashboardStatsService dashboardStatsService;
+    private ReportAssembler reportAssembler;
 
     @Override
     public void init() throws ServletException {
-        roomDAO = new RoomDAO();
-        billDAO = new BillDAO();
-        reservationDAO = new ReservationDAO();
+        roomDAO = DAOFactory.createRoomDAO();
+        billDAO = DAOFactory.createBillDAO();
         reportService = new ReportService();
+        dashboardStatsService = DashboardStatsService.getInstance();
+        reportAssembler = ReportAssembler.getInstance();
     }
 
     @Override
@@ -63,74 +77,87 @@ public class ReportServlet extends HttpServlet {
             return;
         }
 
-        List<Reservation> dateRangeReservations =
-            reportService.getReservationsByDateRange(
-                startDate, endDate);
-        double dateRangeRevenue =
-            reportService.getRevenueByDateRange(
-                startDate, endDate);
-
-        request.setAttribute("dateRangeReservations",
-            dateRangeReservations);
-        request.setAttribute("dateRangeRevenue",
-            dateRangeRevenue);
         request.setAttribute("startDate", startDate);
         request.setAttribute("endDate", endDate);
-        request.setAttribute("dateRangeCount",
-            dateRangeReservations.size());
 
-        showReports(request, response);
+        showReports(request, response, startDate, endDate);
     }
 
     private void showReports(HttpServletRequest request,
                              HttpServletResponse response)
             throws ServletException, IOException {
+        showReports(request, response, null, null);
+    }
+
+    /**
+     * Run the report queries side by side, plus the date range ones if a range
+     * is given, and render whatever came back in time
+     */
+    private void showReports(HttpServletRequest request,
+                             HttpServletResponse response,
+                             String startDate, String endDate)
+            throws ServletException, IOException {
 
-        List<Room> occupancyReport =
-            roomDAO.getRoomOccupancyReport();
-        int totalRooms = roomDAO.getTotalRoomCount();
-        int occupiedRooms = roomDAO.getOccupiedRoomCount();
-        int availableRooms = totalRooms - occupiedRooms;
-        double occupancyRate = totalRooms > 0 ?
-            ((double) occupiedRooms / totalRooms) * 100 : 0;
+        ReportAssembler.Report report = reportAssembler.newReport()
+            .add(OCCUPANCY, roomDAO::getRoomOccupancyReport, new ArrayList<Room>())
+            .add(SUMMARY, dashboardStatsService::findStats, new DashboardStats())
+            .add(REVENUE_BY_TYPE, billDAO::getRevenueByRoomType, new ArrayList<Bill>());
+        if (startDate != null) {
+            report.add(RANGE_RESERVATIONS,
+                       () -> reportService.getReservationsByDateRange(startDate, endDate),
+                       new ArrayList<Reservation>())
+                  .add(RANGE_REVENUE,
+                       () -> reportService.getRevenueByDateRange(startDate, endDate),
+                       0.0);
+        }
+        ReportAssembler.Result result = report.join();
+
+        if (!result.isComplete()) {
+            request.setAttribute("reportWarning",
+                "Some report sections could not be loaded: "
+                + String.join(", ", result.getMissing()) + ". Please refresh to try again.");
+        }
+
+        List<Room> occupancyReport = result.get(OCCUPANCY);
+        DashboardStats stats = result.get(SUMMARY);
 
         request.setAttribute("occupancyReport",
             occupancyReport);
-        request.setAttribute("totalRooms", totalRooms);
-        request.setAttribute("occupiedRooms", occupiedRooms);
-        request.setAttribute("availableRooms", availableRooms);
+        request.setAttribute("totalRooms", stats.getTotalRooms());
+        request.setAttribute("occupiedRooms", stats.getOccupiedRooms());
+        request.setAttribute("availableRooms", stats.getAvailableRooms());
         request.setAttribute("occupancyRate",
-            String.format("%.1f", occupancyRate));
+            String.format("%.1f", stats.getOccupancyRate()));
 
-        double totalRevenue = billDAO.getTotalRevenue();
-        List<Bill> revenueByType =
-            billDAO.getRevenueByRoomType();
-        int totalBills = billDAO.getTotalBillCount();
+        List<Bill> revenueByType = result.get(REVENUE_BY_TYPE);
 
-        request.setAttribute("totalRevenue", totalRevenue);
+        request.setAttribute("totalRevenue", stats.getTotalRevenue());
         request.setAttribute("revenueByType", revenueByType);
-        request.setAttribute("totalBills", totalBills);
-
-        int totalReservations =
-            reservationDAO.getTotalReservationCount();
-        int activeReservations =
-            reservationDAO.getActiveReservationCount();
+        request.setAttribute("totalBills", stats.getTotalBills());
 
         request.setAttribute("totalReservations",
-            totalReservations);
+            stats.getTotalReservations());
         request.setAttribute("activeReservations",
-            activeReservations);
-
-        request.setAttribute("singleAvail",
-            roomDAO.getAvailableRoomCount("Single"));
-        request.setAttribute("doubleAvail",
-            roomDAO.getAvailableRoomCount("Double"));
-        request.setAttribute("deluxeAvail",
-            roomDAO.getAvailableRoomCount("Deluxe"));
-        request.setAttribute("suiteAvail",
-            roomDAO.getAvailableRoomCount("Suite"));
+            stats.getActiveReservations());
+
+        request.setAttribute("singleAvail", stats.getSingleAvail());
+        request.setAttribute("doubleAvail", stats.getDoubleAvail());
+        request.setAttribute("deluxeAvail", stats.getDeluxeAvail());
+        request.setAttribute("suiteAvail", stats.getSuiteAvail());
+
+        if (startDate != null) {
+            List<Reservation> dateRangeReservations = result.get(RANGE_RESERVATIONS);
+            double dateRangeRevenue = result.get(RANGE_REVENUE);
+
+            request.setAttribute("dateRangeReservations",
+                dateRangeReservations);
+            request.setAttribute("dateRangeRevenue",
+                dateRangeRevenue);
+            request.setAttribute("dateRangeCount",
+                dateRangeReservations.size());
+        }
 
         request.getRequestDispatcher("/reports.jsp")
                .forward(request, response);
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,12 @@
 package com.oceanview.controller;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.oceanview.json.JsonSupport;
+import com.oceanview.json.ReservationAdapter;
+import com.oceanview.model.Projection;
 import com.oceanview.model.Reservation;
+import com.oceanview.model.ReservationPage;
+import com.oceanview.service.ReportService;
 import com.oceanview.service.ReservationService;
 import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
@@ -12,7 +16,7 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @WebServlet("/api/reservations")
@@ -20,50 +24,53 @@ public class ReservationApiServlet extends HttpServlet {
 
     private static final long serialVersionUID = 1L;
     private ReservationService reservationService;
+    private ReportService reportService;
     private Gson gson;
 
     @Override
     public void init() throws ServletException {
         reservationService = new ReservationService();
-        gson = new GsonBuilder()
-            .setDateFormat("yyyy-MM-dd HH:mm:ss")
-            .create();
+        reportService = new ReportService();
+        gson = JsonSupport.gsonBuilder().create();
     }
 
     @Override
     protected void doGet(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
 
+        String action = request.getParameter("action");
+
+        if ("export".equals(action)) {
+            exportReservations(request, response);
+            return;
+        }
+
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
         PrintWriter out = response.getWriter();
-        String action = request.getParameter("action");
         String idStr = request.getParameter("id");
         String number = request.getParameter("number");
 
         try {
+            // ?fields=a,b,c limits both the columns read and the JSON written
+            Projection fields = Projection.parse(request.getParameter("fields"), ReservationAdapter.FIELDS);
+            Gson projected = JsonSupport.gson(fields);
+
             if ("count".equals(action)) {
-                List<Reservation> all = reservationService.getAllReservations();
-                long confirmed = 0;
-                long checkedOut = 0;
-                long cancelled = 0;
-                for (Reservation r : all) {
-                    if ("Confirmed".equals(r.getStatus())) confirmed++;
-                    if ("Checked-Out".equals(r.getStatus())) checkedOut++;
-                    if ("Cancelled".equals(r.getStatus())) cancelled++;
-                }
+                // Counted by status in SQL - no rows are loaded
+                Map<String, Integer> breakdown = reportService.getReservationStatusBreakdown();
                 Map<String, Object> counts = new HashMap<String, Object>();
-                counts.put("total", all.size());
-                counts.put("confirmed", confirmed);
-                counts.put("checkedOut", checkedOut);
-                counts.put("cancelled", cancelled);
+                counts.put("total", breakdown.get("Total"));
+                counts.put("confirmed", breakdown.get("Confirmed"));
+                counts.put("checkedOut", breakdown.get("Checked-Out"));
+                counts.put("cancelled", breakdown.get("Cancelled"));
                 out.print(gson.toJson(counts));
 
             } else if (idStr != null) {
                 int reservationId = Integer.parseInt(idStr);
                 Reservation reservation = reservationService.getReservationById(reservationId);
                 if (reservation != null) {
-                    out.print(gson.toJson(reservation));
+                    out.print(projected.toJson(reservation));
                 } else {
                     response.setStatus(404);
                     Map<String, String> error = new HashMap<String, String>();
@@ -74,7 +81,7 @@ public class ReservationApiServlet extends HttpServlet {
             } else if (number != null) {
                 Reservation reservation = reservationService.getReservationByNumber(number);
                 if (reservation != null) {
-                    out.print(gson.toJson(reservation));
+                    out.print(projected.toJson(reservation));
                 } else {
                     response.setStatus(404);
                     Map<String, String> error = new HashMap<String, String>();
@@ -83,10 +90,24 @@ public class ReservationApiServlet extends HttpServlet {
                 }
 
             } else {
-                List<Reservation> reservations = reservationService.getAllReservations();
-                out.print(gson.toJson(reservations));
+                // Keyset-paginated listing: follow nextCursor with ?after=
+                ReservationPage page = reservationService.getReservationPage(
+                    request.getParameter("after"), parseLimit(request.getParameter("limit")),
+                    request.getParameter("status"), request.getParameter("from"),
+                    request.getParameter("to"), fields);
+                Map<String, Object> body = new LinkedHashMap<String, Object>();
+                body.put("reservations", page.getReservations());
+                body.put("nextCursor", page.getNextCursor());
+                body.put("limit", page.getLimit());
+                out.print(projected.toJson(body));
             }
 
+        } catch (IllegalArgumentException e) {
+            response.setStatus(400);
+            Map<String, String> error = new HashMap<String, String>();
+            error.put("error", e.getMessage());
+            out.print(gson.toJson(error));
+
         } catch (Exception e) {
             response.setStatus(500);
             Map<String, String> error = new HashMap<String, String>();
@@ -96,4 +117,43 @@ public class ReservationApiServlet extends HttpServlet {
 
         out.flush();
     }
+
+    /**
+     * /api/reservations?action=export[&status=&from=&to=&fields=]
+     * Every matching reservation as one JSON array, streamed row by row
+     */
+    private void exportReservations(HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        String status = request.getParameter("status");
+        String checkInFrom = request.getParameter("from");
+        String checkInTo = request.getParameter("to");
+        try {
+            Projection fields = Projection.parse(request.getParameter("fields"), ReservationAdapter.FIELDS);
+            // Reject bad filters before the array is opened
+            reservationService.validateReservationFilters(status, checkInFrom, checkInTo);
+            JsonArrayStream.write(response, JsonSupport.gson(fields), Reservation.class,
+                handler -> reservationService.streamReservations(status, checkInFrom, checkInTo,
+                    fields, handler));
+        } catch (IllegalArgumentException e) {
+            if (response.isCommitted()) {
+                return;
+            }
+            response.resetBuffer();
+            response.setStatus(400);
+            Map<String, String> error = new HashMap<String, String>();
+            error.put("error", e.getMessage());
+            response.getWriter().print(gson.toJson(error));
+        }
+    }
+
+    private int parseLimit(String limitStr) {
+        if (limitStr == null || limitStr.trim().isEmpty()) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(limitStr.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid limit: " + limitStr);
+        }
+    }
 }
\ No newline at end of file
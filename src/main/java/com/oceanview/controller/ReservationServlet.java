@@ -1,6 +1,7 @@
 package com.oceanview.controller;
 
 import com.oceanview.model.Reservation;
+import com.oceanview.model.ReservationPage;
 import com.oceanview.model.Room;
 import com.oceanview.service.EmailService;
 import com.oceanview.service.ReservationService;
@@ -135,15 +136,15 @@ public class ReservationServlet extends HttpServlet {
             request.setAttribute("checkOutDate", checkOutDate);
             showAddForm(request, response);
         } else {
-            // Send real email to guest
-            emailService.sendReservationConfirmation(
+            // Queued for the background mail workers - no SMTP wait here
+            boolean emailQueued = emailService.sendReservationConfirmation(
                 guestName, guestEmail, "New Reservation",
                 roomType, checkInDate, checkOutDate
             );
 
             request.getSession().setAttribute("success",
-                "Reservation created successfully! " +
-                "Confirmation email sent to guest.");
+                "Reservation created successfully!" +
+                (emailQueued ? " Confirmation email will be sent to guest." : ""));
             response.sendRedirect("reservation?action=list");
         }
     }
@@ -194,8 +195,21 @@ public class ReservationServlet extends HttpServlet {
     private void listReservations(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
 
-        List<Reservation> reservations = reservationService.getAllReservations();
-        request.setAttribute("reservations", reservations);
+        String after = request.getParameter("after");
+        String status = request.getParameter("status");
+        String checkInFrom = request.getParameter("from");
+        String checkInTo = request.getParameter("to");
+
+        ReservationPage page;
+        try {
+            page = reservationService.getReservationPage(after, parseLimit(request),
+                status, checkInFrom, checkInTo);
+        } catch (IllegalArgumentException e) {
+            request.setAttribute("error", e.getMessage());
+            page = reservationService.getReservationPage(null, 0, null, null, null);
+        }
+        request.setAttribute("reservationPage", page);
+        request.setAttribute("reservations", page.getReservations());
 
         HttpSession session = request.getSession();
         String success = (String) session.getAttribute("success");
@@ -208,23 +222,37 @@ public class ReservationServlet extends HttpServlet {
                .forward(request, response);
     }
 
+    private int parseLimit(HttpServletRequest request) {
+        String limitStr = request.getParameter("limit");
+        if (limitStr == null || limitStr.trim().isEmpty()) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(limitStr.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid page size: " + limitStr);
+        }
+    }
+
     private void updateStatus(HttpServletRequest request, HttpServletResponse response,
                               String newStatus) throws ServletException, IOException {
 
         String idStr = request.getParameter("id");
+        String versionStr = request.getParameter("version");
         if (idStr != null) {
             try {
                 int reservationId = Integer.parseInt(idStr);
-                boolean success =
+                Integer expectedVersion = versionStr != null && !versionStr.isEmpty()
+                    ? Integer.valueOf(versionStr) : null;
+                String error =
                     reservationService.updateReservationStatus(
-                        reservationId, newStatus);
+                        reservationId, newStatus, expectedVersion);
 
-                if (success) {
+                if (error == null) {
                     request.getSession().setAttribute("success",
                         "Reservation status updated to: " + newStatus);
                 } else {
-                    request.getSession().setAttribute("error",
-                        "Failed to update reservation status.");
+                    request.getSession().setAttribute("error", error);
                 }
             } catch (NumberFormatException e) {
                 request.getSession().setAttribute("error",
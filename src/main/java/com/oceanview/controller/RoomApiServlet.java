@@ -1,6 +1,9 @@
 package com.oceanview.controller;
 
 import com.google.gson.Gson;
+import com.oceanview.json.JsonSupport;
+import com.oceanview.json.RoomAdapter;
+import com.oceanview.model.Projection;
 import com.oceanview.model.Room;
 import com.oceanview.service.RoomService;
 
@@ -25,7 +28,7 @@ public class RoomApiServlet extends HttpServlet {
     @Override
     public void init() throws ServletException {
         roomService = new RoomService();
-        gson = new Gson();
+        gson = JsonSupport.gsonBuilder().create();
     }
 
     /**
@@ -34,6 +37,9 @@ public class RoomApiServlet extends HttpServlet {
      * /api/rooms?type=Single                          - Get available rooms by type
      * /api/rooms?type=Single&checkIn=...&checkOut=... - Get available rooms by date range
      * /api/rooms?action=count                         - Get available room counts
+     * Room listings accept &fields=roomId,roomNumber,... to return only those fields.
+     * Rooms are served from the in-memory room catalog, so the projection
+     * only trims the JSON; there is no per-request SQL to narrow.
      */
     @Override
     protected void doGet(HttpServletRequest request, HttpServletResponse response)
@@ -51,6 +57,9 @@ public class RoomApiServlet extends HttpServlet {
         String checkOut = request.getParameter("checkOut");
 
         try {
+            Gson projected = JsonSupport.gson(
+                Projection.parse(request.getParameter("fields"), RoomAdapter.FIELDS));
+
             if ("count".equals(action)) {
                 // Return available room counts for all types
                 Map<String, Integer> counts = new HashMap<>();
@@ -69,22 +78,28 @@ public class RoomApiServlet extends HttpServlet {
 
                     List<Room> rooms = roomService.getAvailableRoomsByTypeAndDateRange(
                             roomType, checkIn, checkOut);
-                    out.print(gson.toJson(rooms));
+                    out.print(projected.toJson(rooms));
 
                 } else {
                     // dates නැත්නම් — old method (fallback)
                     List<Room> rooms = roomService.getAvailableRoomsByType(roomType);
-                    out.print(gson.toJson(rooms));
+                    out.print(projected.toJson(rooms));
                 }
 
             } else {
                 // Return all rooms
                 List<Room> rooms = roomService.getAllRooms();
-                out.print(gson.toJson(rooms));
+                out.print(projected.toJson(rooms));
             }
 
             response.setStatus(HttpServletResponse.SC_OK);
 
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            out.print(gson.toJson(error));
+
         } catch (Exception e) {
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
             Map<String, String> error = new HashMap<>();
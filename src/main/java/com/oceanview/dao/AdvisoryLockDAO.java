@@ -0,0 +1,105 @@
+package com.oceanview.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * AdvisoryLockDAO - Named MySQL locks (GET_LOCK / RELEASE_LOCK)
+ * A named lock belongs to the session that took it, so the held Lock keeps
+ * its connection until close(). Inside a unit of work that is the request's
+ * shared connection, so taking the lock costs no extra pooled connection.
+ * If RELEASE_LOCK fails the connection is aborted, never handed back with
+ * the lock still held; a unit of work then borrows a fresh connection for
+ * the rest of the request.
+ */
+public class AdvisoryLockDAO {
+
+    private DBConnection dbConnection;
+
+    public AdvisoryLockDAO() {
+        this.dbConnection = DBConnection.getInstance();
+    }
+
+    /**
+     * Take the named lock, waiting up to timeoutSeconds.
+     * Returns null if another session kept it that long or the query failed.
+     */
+    public Lock acquire(String name, int timeoutSeconds) {
+        Connection conn = null;
+        try {
+            conn = dbConnection.getConnection();
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+                stmt.setString(1, name);
+                stmt.setInt(2, timeoutSeconds);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    // 1 = taken, 0 = timed out, NULL = error
+                    if (rs.next() && rs.getInt(1) == 1) {
+                        return new Lock(conn, name);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error acquiring lock " + name + ": " + e.getMessage());
+        }
+        closeQuietly(conn);
+        return null;
+    }
+
+    private static void closeQuietly(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        try {
+            conn.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing lock connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * A held named lock; close() releases it and returns the connection
+     */
+    public static class Lock implements AutoCloseable {
+        private final Connection conn;
+        private final String name;
+
+        Lock(Connection conn, String name) {
+            this.conn = conn;
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void close() {
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+                stmt.setString(1, name);
+                stmt.executeQuery().close();
+            } catch (SQLException e) {
+                System.err.println("Error releasing lock " + name + ": " + e.getMessage());
+                abortSession();
+            } finally {
+                closeQuietly(conn);
+            }
+        }
+
+        /**
+         * Kill the physical connection so MySQL drops the lock with the session.
+         * The pool then discards it instead of reusing a session that still
+         * holds the lock (closing a unit-of-work connection alone is a no-op),
+         * and the unit of work stops handing out the dead connection.
+         */
+        private void abortSession() {
+            try {
+                conn.abort(Runnable::run);
+            } catch (SQLException e) {
+                System.err.println("Error aborting lock connection for " + name + ": " + e.getMessage());
+            }
+            UnitOfWork.discardConnection(conn);
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package com.oceanview.dao;
 
 import com.oceanview.model.Bill;
+import com.oceanview.model.Projection;
 
+import java.io.IOException;
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * BillDAO - Data Access Object for Bill operations
@@ -17,6 +22,27 @@ import java.util.List;
  */
 public class BillDAO {
 
+    // API field name -> column, for projected listings (?fields=)
+    private static final Map<String, String> COLUMNS = new LinkedHashMap<>();
+    static {
+        COLUMNS.put("billId", "bill_id");
+        COLUMNS.put("reservationId", "reservation_id");
+        COLUMNS.put("reservationNumber", "reservation_number");
+        COLUMNS.put("guestName", "guest_name");
+        COLUMNS.put("roomType", "room_type");
+        COLUMNS.put("roomNumber", "room_number");
+        COLUMNS.put("checkInDate", "check_in_date");
+        COLUMNS.put("checkOutDate", "check_out_date");
+        COLUMNS.put("numberOfNights", "number_of_nights");
+        COLUMNS.put("ratePerNight", "rate_per_night");
+        COLUMNS.put("totalAmount", "total_amount");
+        COLUMNS.put("billDate", "bill_date");
+        COLUMNS.put("generatedBy", "generated_by");
+        COLUMNS.put("paymentStatus", "payment_status");
+        COLUMNS.put("paymentMethod", "payment_method");
+        COLUMNS.put("paidAt", "paid_at");
+    }
+
     private DBConnection dbConnection;
 
     public BillDAO() {
@@ -93,6 +119,33 @@ public class BillDAO {
         return bills;
     }
 
+    /**
+     * Stream every bill, newest first, to the handler.
+     * The result set is read row by row (forward-only, fetch size
+     * Integer.MIN_VALUE), so memory stays flat however many bills exist.
+     * Only the projected columns are selected. Returns the number of rows handled.
+     */
+    public int streamBills(Projection fields, RowHandler<Bill> handler) throws SQLException, IOException {
+        String sql = "SELECT " + columnList(fields) + " FROM bills ORDER BY bill_date DESC";
+        int count = 0;
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql,
+                 ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            stmt.setFetchSize(Integer.MIN_VALUE);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    handler.handle(fields.isAll() ? extractBillFromResultSet(rs)
+                                                  : extractProjectedBill(rs, fields));
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
     /**
      * Check if bill already exists for a reservation
      */
@@ -138,6 +191,49 @@ public class BillDAO {
         }
     }
 
+    private static String columnList(Projection fields) {
+        if (fields.isAll()) {
+            return "*";
+        }
+        StringBuilder columns = new StringBuilder();
+        for (String field : fields.getFields()) {
+            String column = COLUMNS.get(field);
+            if (column != null) {
+                columns.append(columns.length() > 0 ? ", " : "").append(column);
+            }
+        }
+        return columns.length() > 0 ? columns.toString() : "bill_id";
+    }
+
+    /**
+     * Read the columns columnList(fields) selected
+     */
+    private Bill extractProjectedBill(ResultSet rs, Projection fields) throws SQLException {
+        Bill bill = new Bill();
+        for (String field : fields.getFields()) {
+            switch (field) {
+                case "billId":            bill.setBillId(rs.getInt("bill_id")); break;
+                case "reservationId":     bill.setReservationId(rs.getInt("reservation_id")); break;
+                case "reservationNumber": bill.setReservationNumber(rs.getString("reservation_number")); break;
+                case "guestName":         bill.setGuestName(rs.getString("guest_name")); break;
+                case "roomType":          bill.setRoomType(rs.getString("room_type")); break;
+                case "roomNumber":        bill.setRoomNumber(rs.getString("room_number")); break;
+                case "checkInDate":       bill.setCheckInDate(rs.getObject("check_in_date", LocalDate.class)); break;
+                case "checkOutDate":      bill.setCheckOutDate(rs.getObject("check_out_date", LocalDate.class)); break;
+                case "numberOfNights":    bill.setNumberOfNights(rs.getInt("number_of_nights")); break;
+                case "ratePerNight":      bill.setRatePerNight(rs.getDouble("rate_per_night")); break;
+                case "totalAmount":       bill.setTotalAmount(rs.getDouble("total_amount")); break;
+                case "billDate":          bill.setBillDate(rs.getTimestamp("bill_date")); break;
+                case "generatedBy":       bill.setGeneratedBy(rs.getInt("generated_by")); break;
+                case "paymentStatus":     bill.setPaymentStatus(rs.getString("payment_status")); break;
+                case "paymentMethod":     bill.setPaymentMethod(rs.getString("payment_method")); break;
+                case "paidAt":            bill.setPaidAt(rs.getTimestamp("paid_at")); break;
+                default:                  break;
+            }
+        }
+        return bill;
+    }
+
     /**
      * Helper method to extract Bill from ResultSet
      */
@@ -149,8 +245,8 @@ public class BillDAO {
         bill.setGuestName(rs.getString("guest_name"));
         bill.setRoomType(rs.getString("room_type"));
         bill.setRoomNumber(rs.getString("room_number"));
-        bill.setCheckInDate(rs.getString("check_in_date"));
-        bill.setCheckOutDate(rs.getString("check_out_date"));
+        bill.setCheckInDate(rs.getObject("check_in_date", LocalDate.class));
+        bill.setCheckOutDate(rs.getObject("check_out_date", LocalDate.class));
         bill.setNumberOfNights(rs.getInt("number_of_nights"));
         bill.setRatePerNight(rs.getDouble("rate_per_night"));
         bill.setTotalAmount(rs.getDouble("total_amount"));
@@ -166,10 +262,11 @@ public class BillDAO {
     }
 
     /**
-     * Get total revenue from all bills
+     * Get total revenue from all bills (running total kept by the bill trigger)
      */
     public double getTotalRevenue() {
-        String sql = "SELECT IFNULL(SUM(total_amount), 0) as total_revenue FROM bills";
+        String sql = "SELECT IFNULL(SUM(counter_value), 0) AS total_revenue FROM stats_counters " +
+                     "WHERE counter_name = '" + CounterDAO.BILLS_REVENUE + "'";
         double revenue = 0;
 
         try (Connection conn = dbConnection.getConnection();
@@ -186,8 +283,38 @@ public class BillDAO {
         return revenue;
     }
 
+    /**
+     * Bill count and total revenue in one query.
+     * Both come from the running totals the bill trigger keeps in
+     * stats_counters, so the cost doesn't grow with the number of bills.
+     */
+    public Map<String, Number> getRevenueSummary() {
+        String sql = "SELECT " +
+                     "SUM(CASE WHEN counter_name = '" + CounterDAO.BILLS_TOTAL + "' THEN counter_value ELSE 0 END) AS total_bills, " +
+                     "SUM(CASE WHEN counter_name = '" + CounterDAO.BILLS_REVENUE + "' THEN counter_value ELSE 0 END) AS total_revenue " +
+                     "FROM stats_counters WHERE counter_name IN ('" + CounterDAO.BILLS_TOTAL + "', '" + CounterDAO.BILLS_REVENUE + "')";
+        Map<String, Number> summary = new LinkedHashMap<>();
+        summary.put("totalBills", 0);
+        summary.put("totalRevenue", 0.0);
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            if (rs.next()) {
+                summary.put("totalBills", rs.getInt("total_bills"));
+                summary.put("totalRevenue", rs.getDouble("total_revenue"));
+            }
+        } catch (SQLException e) {
+            System.err.println("Error getting revenue summary: " + e.getMessage());
+        }
+
+        return summary;
+    }
+
     /**
      * Get revenue breakdown by room type
+     * Returns null if the query fails, so the report can show it as missing
      */
     public List<Bill> getRevenueByRoomType() {
         String sql = "SELECT room_type, COUNT(*) as bill_count, " +
@@ -211,16 +338,18 @@ public class BillDAO {
             }
         } catch (SQLException e) {
             System.err.println("Error getting revenue by room type: " + e.getMessage());
+            return null;
         }
 
         return report;
     }
 
     /**
-     * Get total number of bills
+     * Get total number of bills (running total kept by the bill trigger)
      */
     public int getTotalBillCount() {
-        String sql = "SELECT COUNT(*) as total FROM bills";
+        String sql = "SELECT IFNULL(SUM(counter_value), 0) AS total FROM stats_counters " +
+                     "WHERE counter_name = '" + CounterDAO.BILLS_TOTAL + "'";
         int count = 0;
 
         try (Connection conn = dbConnection.getConnection();
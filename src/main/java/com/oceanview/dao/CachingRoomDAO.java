@@ -0,0 +1,73 @@
+package com.oceanview.dao;
+
+import com.oceanview.model.Room;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * CachingRoomDAO - RoomDAO that serves room reads from RoomCatalogCache
+ * Created by DAOFactory, so services get cached room reads without changes.
+ * If the cache can't be filled the call falls through to the plain query.
+ */
+public class CachingRoomDAO extends RoomDAO {
+
+    private final RoomCatalogCache cache;
+
+    public CachingRoomDAO() {
+        this.cache = RoomCatalogCache.getInstance();
+    }
+
+    @Override
+    public List<Room> getAllRooms() {
+        RoomCatalogCache.Catalog catalog = catalog();
+        return catalog != null ? catalog.getAllRooms() : super.getAllRooms();
+    }
+
+    @Override
+    public List<Room> getAvailableRoomsByType(String roomType) {
+        RoomCatalogCache.Catalog catalog = catalog();
+        return catalog != null ? catalog.getAvailableRoomsByType(roomType)
+                               : super.getAvailableRoomsByType(roomType);
+    }
+
+    @Override
+    public Room getRoomById(int roomId) {
+        RoomCatalogCache.Catalog catalog = catalog();
+        return catalog != null ? catalog.getRoomById(roomId) : super.getRoomById(roomId);
+    }
+
+    @Override
+    public int getAvailableRoomCount(String roomType) {
+        RoomCatalogCache.Catalog catalog = catalog();
+        return catalog != null ? catalog.getAvailableRoomCount(roomType)
+                               : super.getAvailableRoomCount(roomType);
+    }
+
+    @Override
+    public List<String> getRoomTypes() {
+        RoomCatalogCache.Catalog catalog = catalog();
+        return catalog != null ? catalog.getRoomTypes() : super.getRoomTypes();
+    }
+
+    @Override
+    public int getTotalRoomCount() {
+        RoomCatalogCache.Catalog catalog = catalog();
+        return catalog != null ? catalog.getTotalRoomCount() : super.getTotalRoomCount();
+    }
+
+    @Override
+    public int getOccupiedRoomCount() {
+        RoomCatalogCache.Catalog catalog = catalog();
+        return catalog != null ? catalog.getOccupiedRoomCount() : super.getOccupiedRoomCount();
+    }
+
+    private RoomCatalogCache.Catalog catalog() {
+        try {
+            return cache.get(this::loadAllRooms);
+        } catch (SQLException e) {
+            System.err.println("Error loading room catalog: " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.oceanview.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * CounterDAO - Data Access Object for the stats_counters summary table
+ * The counters are maintained by database triggers in the same transaction
+ * as the reservation, bill or room write; reconcile() rebuilds them from the
+ * base tables in case they ever drift.
+ * Each counter is spread over SLOTS rows that the triggers update at
+ * random, so a counter's value is the sum of its slots.
+ */
+public class CounterDAO {
+
+    public static final String RESERVATIONS_TOTAL = "reservations_total";
+    public static final String RESERVATIONS_CONFIRMED = "reservations_confirmed";
+    public static final String BILLS_TOTAL = "bills_total";
+    public static final String BILLS_REVENUE = "bills_revenue";
+    public static final String ROOMS_OCCUPIED = "rooms_occupied";
+
+    /** Slot rows per counter; must match the triggers in database_setup.sql */
+    public static final int SLOTS = 16;
+
+    // Recount query per counter, each a single scan of one base table
+    private static final Map<String, String> RECOUNT_SQL = new LinkedHashMap<>();
+
+    static {
+        RECOUNT_SQL.put(RESERVATIONS_TOTAL, "SELECT COUNT(*) FROM reservations");
+        RECOUNT_SQL.put(RESERVATIONS_CONFIRMED, "SELECT COUNT(*) FROM reservations WHERE status = 'Confirmed'");
+        RECOUNT_SQL.put(BILLS_TOTAL, "SELECT COUNT(*) FROM bills");
+        RECOUNT_SQL.put(BILLS_REVENUE, "SELECT IFNULL(SUM(total_amount), 0) FROM bills");
+        RECOUNT_SQL.put(ROOMS_OCCUPIED, "SELECT COUNT(*) FROM rooms WHERE status = 'Occupied'");
+    }
+
+    private DBConnection dbConnection;
+
+    public CounterDAO() {
+        this.dbConnection = DBConnection.getInstance();
+    }
+
+    /**
+     * Recompute every counter from the base tables and store the result.
+     * Each counter is rebuilt in a transaction of its own: its slot rows are
+     * locked first, so writes that commit while we count wait for us and then
+     * apply their increment on top of our total. The total goes into slot 0
+     * and the other slots are zeroed.
+     *
+     * While a counter is being recounted, bookings and bills that update it
+     * stall for one scan of its base table; the other counters stay
+     * writable, so the stall never spans the whole rebuild.
+     */
+    public Reconciliation reconcile() throws SQLException {
+        Map<String, Double> locked = new LinkedHashMap<>();
+        Map<String, Double> recounted = new LinkedHashMap<>();
+        for (Map.Entry<String, String> counter : RECOUNT_SQL.entrySet()) {
+            String name = counter.getKey();
+            double[] values = UnitOfWork.inTransaction(() -> recount(name, counter.getValue()));
+            locked.put(name, values[0]);
+            recounted.put(name, values[1]);
+        }
+        return new Reconciliation(locked, recounted);
+    }
+
+    /**
+     * Lock one counter, recount it and store the total; returns {locked value, recounted value}
+     */
+    private double[] recount(String name, String countSql) throws SQLException {
+        String lockSql = "SELECT counter_value FROM stats_counters WHERE counter_name = ? FOR UPDATE";
+        String upsertSql = "INSERT INTO stats_counters (counter_name, slot, counter_value) VALUES (?, ?, ?) " +
+                           "ON DUPLICATE KEY UPDATE counter_value = VALUES(counter_value)";
+        double locked = 0;
+        double actual = 0;
+
+        try (Connection conn = dbConnection.getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement(lockSql)) {
+                stmt.setString(1, name);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        locked += rs.getDouble("counter_value");
+                    }
+                }
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement(countSql);
+                 ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    actual = rs.getDouble(1);
+                }
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement(upsertSql)) {
+                for (int slot = 0; slot < SLOTS; slot++) {
+                    stmt.setString(1, name);
+                    stmt.setInt(2, slot);
+                    stmt.setDouble(3, slot == 0 ? actual : 0);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+        }
+        return new double[] { locked, actual };
+    }
+
+    /**
+     * Counter values as locked before the rebuild and as recounted, read in
+     * the same transaction so writes after the rebuild don't show up as drift
+     */
+    public static final class Reconciliation {
+        private final Map<String, Double> locked;
+        private final Map<String, Double> recounted;
+
+        public Reconciliation(Map<String, Double> locked, Map<String, Double> recounted) {
+            this.locked = locked;
+            this.recounted = recounted;
+        }
+
+        public Map<String, Double> getLocked() {
+            return locked;
+        }
+
+        public Map<String, Double> getRecounted() {
+            return recounted;
+        }
+    }
+}
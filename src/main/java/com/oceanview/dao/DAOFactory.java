@@ -13,8 +13,11 @@ public class DAOFactory {
         return new UserDAO();
     }
 
+    /**
+     * Room reads are served from the shared RoomCatalogCache
+     */
     public static RoomDAO createRoomDAO() {
-        return new RoomDAO();
+        return new CachingRoomDAO();
     }
 
     public static ReservationDAO createReservationDAO() {
@@ -24,4 +27,24 @@ public class DAOFactory {
     public static BillDAO createBillDAO() {
         return new BillDAO();
     }
-}
\ No newline at end of file
+
+    public static DashboardDAO createDashboardDAO() {
+        return new DashboardDAO();
+    }
+
+    public static AdvisoryLockDAO createAdvisoryLockDAO() {
+        return new AdvisoryLockDAO();
+    }
+
+    public static CounterDAO createCounterDAO() {
+        return new CounterDAO();
+    }
+
+    public static EmailOutboxDAO createEmailOutboxDAO() {
+        return new EmailOutboxDAO();
+    }
+
+    public static EmailLogDAO createEmailLogDAO() {
+        return new EmailLogDAO();
+    }
+}
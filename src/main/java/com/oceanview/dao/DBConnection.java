@@ -1,13 +1,28 @@
 package com.oceanview.dao;
 
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * DBConnection - Singleton Design Pattern
- * Ensures only ONE database connection instance exists throughout the application.
- * This prevents resource wastage and connection conflicts.
+ * Ensures only ONE connection pool exists throughout the application.
+ * Connections are borrowed from a bounded pool and handed back on close(),
+ * so DAOs keep using try-with-resources exactly as before.
+ * During an HTTP request the UnitOfWork shares one borrowed connection.
  */
 public class DBConnection {
 
@@ -15,10 +30,31 @@ public class DBConnection {
     private static DBConnection instance;
 
     // Database configuration
-    private static final String URL = "jdbc:mysql://localhost:3306/oceanview_resort";
+    // useLocalSessionState lets the driver skip redundant auto-commit round trips;
+    // rewriteBatchedStatements sends an INSERT batch as one multi-row INSERT
+    private static final String URL = "jdbc:mysql://localhost:3306/oceanview_resort"
+            + "?useLocalSessionState=true&rewriteBatchedStatements=true";
     private static final String USERNAME = "root";
     private static final String PASSWORD = "root";  // Change this to your MySQL password
 
+    // Pool configuration
+    private static final int MIN_IDLE = 2;
+    private static final int MAX_SIZE = 20;
+    private static final long BORROW_TIMEOUT_MS = 5000;
+    private static final long IDLE_TIMEOUT_MS = 5 * 60 * 1000;
+    private static final long EVICTION_INTERVAL_MS = 30 * 1000;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    // Idle physical connections, most recently returned first
+    private final Deque<IdleConnection> idle = new ArrayDeque<>();
+
+    // One permit per connection that may be open at the same time
+    private final Semaphore permits = new Semaphore(MAX_SIZE, true);
+
+    private final AtomicInteger openCount = new AtomicInteger();
+    private ScheduledExecutorService evictor;
+    private volatile boolean closed;
+
     // Private constructor - prevents external instantiation
     private DBConnection() {
         try {
@@ -40,9 +76,273 @@ public class DBConnection {
     }
 
     /**
-     * Get a new database connection
+     * Start the pool: pre-open MIN_IDLE connections and schedule idle eviction.
+     * Called once by AppContextListener on startup.
+     */
+    public synchronized void start() {
+        closed = false;
+        if (evictor == null) {
+            evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "db-pool-evictor");
+                t.setDaemon(true);
+                return t;
+            });
+            evictor.scheduleWithFixedDelay(this::evictIdle,
+                EVICTION_INTERVAL_MS, EVICTION_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        }
+        fillToMinIdle();
+    }
+
+    /**
+     * Close every pooled connection and stop the evictor.
+     * Called by AppContextListener on shutdown.
+     */
+    public synchronized void shutdown() {
+        closed = true;
+        if (evictor != null) {
+            evictor.shutdownNow();
+            evictor = null;
+        }
+        synchronized (idle) {
+            for (IdleConnection c : idle) {
+                discard(c.physical);
+            }
+            idle.clear();
+        }
+    }
+
+    /**
+     * Get a database connection.
+     * Inside a UnitOfWork this is the connection shared by the whole request;
+     * otherwise a connection is borrowed from the pool and close() hands it back.
      */
     public Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(URL, USERNAME, PASSWORD);
+        UnitOfWork uow = UnitOfWork.current();
+        if (uow != null) {
+            return uow.getConnection(this);
+        }
+        return borrow();
+    }
+
+    /**
+     * Borrow a connection from the pool.
+     * Calling close() on the returned connection hands it back to the pool.
+     */
+    Connection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is shut down");
+        }
+
+        try {
+            if (!permits.tryAcquire(BORROW_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("Timed out after " + BORROW_TIMEOUT_MS
+                    + " ms waiting for a database connection (pool size " + MAX_SIZE + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+
+        try {
+            Connection physical = takeValidIdle();
+            if (physical == null) {
+                physical = openPhysical();
+            }
+            return wrap(physical);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Pool statistics for monitoring
+     */
+    public int getOpenConnectionCount() {
+        return openCount.get();
+    }
+
+    public int getIdleConnectionCount() {
+        synchronized (idle) {
+            return idle.size();
+        }
+    }
+
+    public int getActiveConnectionCount() {
+        return MAX_SIZE - permits.availablePermits();
+    }
+
+    public int getMaxPoolSize() {
+        return MAX_SIZE;
+    }
+
+    /**
+     * Take the most recently used idle connection, discarding any that fail validation
+     */
+    private Connection takeValidIdle() {
+        while (true) {
+            IdleConnection candidate;
+            synchronized (idle) {
+                candidate = idle.pollFirst();
+            }
+            if (candidate == null) {
+                return null;
+            }
+            if (isUsable(candidate.physical)) {
+                return candidate.physical;
+            }
+            discard(candidate.physical);
+        }
+    }
+
+    private Connection openPhysical() throws SQLException {
+        Connection physical = DriverManager.getConnection(URL, USERNAME, PASSWORD);
+        openCount.incrementAndGet();
+        return physical;
+    }
+
+    /**
+     * Hand a connection back: reset its state and park it, or drop it if broken
+     */
+    private void release(Connection physical) {
+        try {
+            boolean reusable = !closed && !physical.isClosed();
+            if (reusable && !physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            if (reusable) {
+                synchronized (idle) {
+                    idle.addFirst(new IdleConnection(physical, System.currentTimeMillis()));
+                }
+            } else {
+                discard(physical);
+            }
+        } catch (SQLException e) {
+            discard(physical);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Close connections idle longer than IDLE_TIMEOUT_MS, keeping MIN_IDLE around
+     */
+    private void evictIdle() {
+        long cutoff = System.currentTimeMillis() - IDLE_TIMEOUT_MS;
+        synchronized (idle) {
+            Iterator<IdleConnection> it = idle.descendingIterator();
+            while (it.hasNext() && idle.size() > MIN_IDLE) {
+                IdleConnection c = it.next();
+                if (c.returnedAt < cutoff) {
+                    it.remove();
+                    discard(c.physical);
+                }
+            }
+        }
+        fillToMinIdle();
+    }
+
+    private void fillToMinIdle() {
+        while (!closed && getIdleConnectionCount() < MIN_IDLE
+                && openCount.get() < MAX_SIZE) {
+            try {
+                Connection physical = openPhysical();
+                synchronized (idle) {
+                    idle.addLast(new IdleConnection(physical, System.currentTimeMillis()));
+                }
+            } catch (SQLException e) {
+                System.err.println("Error pre-opening pooled connection: " + e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private boolean isUsable(Connection physical) {
+        try {
+            return physical.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void discard(Connection physical) {
+        openCount.decrementAndGet();
+        closeQuietly(physical);
+    }
+
+    private static void closeQuietly(Connection physical) {
+        try {
+            physical.close();
+        } catch (SQLException e) {
+            // already broken - nothing more to do
+        }
+    }
+
+    /**
+     * Wrap a physical connection so that close() returns it to the pool
+     */
+    private Connection wrap(Connection physical) {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            new PooledConnectionHandler(physical));
+    }
+
+    private static final class IdleConnection {
+        final Connection physical;
+        final long returnedAt;
+
+        IdleConnection(Connection physical, long returnedAt) {
+            this.physical = physical;
+            this.returnedAt = returnedAt;
+        }
+    }
+
+    private final class PooledConnectionHandler implements InvocationHandler {
+        private final Connection physical;
+        private boolean returned;
+
+        PooledConnectionHandler(Connection physical) {
+            this.physical = physical;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(physical);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || physical.isClosed();
+                default:
+                    if (returned) {
+                        throw new SQLException("Connection has already been returned to the pool");
+                    }
+                    Object result;
+                    try {
+                        result = method.invoke(physical, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    return timed(method, args, result);
+            }
+        }
+
+        /**
+         * Wrap statements so each execute is timed by QueryStats
+         */
+        private Object timed(Method method, Object[] args, Object result) {
+            if (!(result instanceof Statement)) {
+                return result;
+            }
+            String name = method.getName();
+            String sql = ("prepareStatement".equals(name) || "prepareCall".equals(name))
+                ? (String) args[0] : null;
+            return StatementTimer.wrap((Statement) result, sql, method.getReturnType());
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package com.oceanview.dao;
+
+import com.oceanview.model.DashboardStats;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * DashboardDAO - Data Access Object for the dashboard statistics
+ * Reads every dashboard counter in a single query. Reservation and bill
+ * totals come from stats_counters, so the cost doesn't grow with history;
+ * the per-type room counts aggregate the small rooms table.
+ */
+public class DashboardDAO {
+
+    private DBConnection dbConnection;
+
+    public DashboardDAO() {
+        this.dbConnection = DBConnection.getInstance();
+    }
+
+    /**
+     * Room, reservation and revenue counters in one round trip
+     * Returns null if the query fails
+     */
+    public DashboardStats getDashboardStats() {
+        String sql = "SELECT COUNT(*) AS total_rooms, " +
+                     "IFNULL(SUM(status = 'Occupied'), 0) AS occupied_rooms, " +
+                     "IFNULL(SUM(room_type = 'Single' AND status = 'Available'), 0) AS single_avail, " +
+                     "IFNULL(SUM(room_type = 'Double' AND status = 'Available'), 0) AS double_avail, " +
+                     "IFNULL(SUM(room_type = 'Deluxe' AND status = 'Available'), 0) AS deluxe_avail, " +
+                     "IFNULL(SUM(room_type = 'Suite' AND status = 'Available'), 0) AS suite_avail, " +
+                     counter(CounterDAO.RESERVATIONS_TOTAL) + " AS total_reservations, " +
+                     counter(CounterDAO.RESERVATIONS_CONFIRMED) + " AS active_reservations, " +
+                     counter(CounterDAO.BILLS_REVENUE) + " AS total_revenue, " +
+                     counter(CounterDAO.BILLS_TOTAL) + " AS total_bills " +
+                     "FROM rooms";
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            if (rs.next()) {
+                DashboardStats stats = new DashboardStats();
+                stats.setTotalRooms(rs.getInt("total_rooms"));
+                stats.setOccupiedRooms(rs.getInt("occupied_rooms"));
+                stats.setSingleAvail(rs.getInt("single_avail"));
+                stats.setDoubleAvail(rs.getInt("double_avail"));
+                stats.setDeluxeAvail(rs.getInt("deluxe_avail"));
+                stats.setSuiteAvail(rs.getInt("suite_avail"));
+                stats.setTotalReservations(rs.getInt("total_reservations"));
+                stats.setActiveReservations(rs.getInt("active_reservations"));
+                stats.setTotalRevenue(rs.getDouble("total_revenue"));
+                stats.setTotalBills(rs.getInt("total_bills"));
+                return stats;
+            }
+        } catch (SQLException e) {
+            System.err.println("Error getting dashboard stats: " + e.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * One running total: the sum of its slot rows in stats_counters
+     */
+    private static String counter(String name) {
+        return "(SELECT IFNULL(SUM(counter_value), 0) FROM stats_counters WHERE counter_name = '" + name + "')";
+    }
+}
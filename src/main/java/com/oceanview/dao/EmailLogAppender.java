@@ -0,0 +1,155 @@
+package com.oceanview.dao;
+
+import com.oceanview.model.EmailLog;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * EmailLogAppender - Write-behind buffer for email_logs (Singleton)
+ * append() only puts the row in a bounded ring buffer and returns; a
+ * background thread writes buffered rows as one batch INSERT once
+ * BATCH_SIZE rows are waiting or FLUSH_INTERVAL_MS has passed since the
+ * first one. If the buffer is full the row is dropped and counted rather
+ * than making the caller wait. stop() writes whatever is left.
+ */
+public class EmailLogAppender {
+
+    private static final EmailLogAppender INSTANCE = new EmailLogAppender(DAOFactory.createEmailLogDAO());
+
+    private static final int CAPACITY = 2048;
+    private static final int BATCH_SIZE = 100;
+    private static final long FLUSH_INTERVAL_MS = 2000;
+
+    private final EmailLogDAO emailLogDAO;
+    private final BlockingQueue<EmailLog> buffer = new ArrayBlockingQueue<>(CAPACITY);
+    private Thread writer;
+    private volatile boolean running;
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    EmailLogAppender(EmailLogDAO emailLogDAO) {
+        this.emailLogDAO = emailLogDAO;
+    }
+
+    public static EmailLogAppender getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Buffer one log row; never blocks and never touches the database
+     */
+    public void append(String recipient, String subject, String message, String status) {
+        if (!buffer.offer(new EmailLog(recipient, subject, message, status))) {
+            dropped.increment();
+        }
+    }
+
+    public synchronized void start() {
+        if (writer != null) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::writeLoop, "email-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Stop the background thread and write every buffered row
+     */
+    public synchronized void stop() {
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+            try {
+                writer.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writer = null;
+        }
+        flush();
+    }
+
+    /**
+     * Write everything currently buffered, in batches of BATCH_SIZE
+     */
+    public void flush() {
+        List<EmailLog> batch = new ArrayList<>(BATCH_SIZE);
+        while (buffer.drainTo(batch, BATCH_SIZE) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    public int getBufferedCount() {
+        return buffer.size();
+    }
+
+    /**
+     * Buffer depth and write/drop counters for monitoring
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("buffered", buffer.size());
+        stats.put("written", written.sum());
+        stats.put("dropped", dropped.sum());
+        return stats;
+    }
+
+    private void writeLoop() {
+        List<EmailLog> batch = new ArrayList<>(BATCH_SIZE);
+        while (running) {
+            try {
+                EmailLog first = buffer.poll(FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // Collect more rows until the batch is full or the interval is up
+                long deadline = System.currentTimeMillis() + FLUSH_INTERVAL_MS;
+                while (batch.size() < BATCH_SIZE) {
+                    buffer.drainTo(batch, BATCH_SIZE - batch.size());
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (batch.size() >= BATCH_SIZE || remaining <= 0) {
+                        break;
+                    }
+                    EmailLog next = buffer.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                write(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                // stop() - write the partial batch; stop() flushes the rest
+                if (!batch.isEmpty()) {
+                    write(batch);
+                }
+                return;
+            }
+        }
+    }
+
+    private void write(List<EmailLog> batch) {
+        try {
+            emailLogDAO.insertBatch(batch);
+            written.add(batch.size());
+        } catch (SQLException e) {
+            dropped.add(batch.size());
+            System.err.println("[EMAIL LOG ERROR] " + batch.size() + " log rows not written: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.oceanview.dao;
+
+import com.oceanview.model.EmailLog;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * EmailLogDAO - Data Access Object for the email_logs audit table
+ * Rows are written in batches by EmailLogAppender, never one per email.
+ */
+public class EmailLogDAO {
+
+    private DBConnection dbConnection;
+
+    public EmailLogDAO() {
+        this.dbConnection = DBConnection.getInstance();
+    }
+
+    /**
+     * Insert a batch of log rows in one round trip.
+     * The connection URL sets rewriteBatchedStatements, so the driver sends
+     * the batch as a single multi-row INSERT.
+     */
+    public void insertBatch(List<EmailLog> logs) throws SQLException {
+        String sql = "INSERT INTO email_logs (recipient, subject, " +
+                     "message, status, sent_at) " +
+                     "VALUES (?, ?, ?, ?, ?)";
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            for (EmailLog log : logs) {
+                stmt.setString(1, log.getRecipient());
+                stmt.setString(2, log.getSubject());
+                stmt.setString(3, log.getMessage());
+                stmt.setString(4, log.getStatus());
+                stmt.setTimestamp(5, log.getSentAt());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.oceanview.dao;
+
+import com.oceanview.model.EmailMessage;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * EmailOutboxDAO - Data Access Object for the email_outbox table
+ * Every outgoing email is stored here before it is sent, so nothing is
+ * lost if SMTP is down or the application restarts.
+ *
+ * A sender claim()s a row (PENDING -> SENDING) before sending it, so only
+ * one node sends each message. A claim that is never finished (the node
+ * died mid-send) expires at locked_until and the row is due again.
+ */
+public class EmailOutboxDAO {
+
+    private DBConnection dbConnection;
+
+    public EmailOutboxDAO() {
+        this.dbConnection = DBConnection.getInstance();
+    }
+
+    /**
+     * Store a new PENDING message and set its outboxId.
+     * Returns false if it could not be stored.
+     */
+    public boolean enqueue(EmailMessage message) {
+        String sql = "INSERT INTO email_outbox (recipient, subject, body) VALUES (?, ?, ?)";
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+
+            stmt.setString(1, message.getRecipient());
+            stmt.setString(2, message.getSubject());
+            stmt.setString(3, message.getBody());
+            stmt.executeUpdate();
+
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                if (keys.next()) {
+                    message.setOutboxId(keys.getLong(1));
+                }
+            }
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Error queuing email: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * PENDING messages whose next attempt is due, plus abandoned claims, oldest first
+     */
+    public List<EmailMessage> getDueMessages(int limit) {
+        String sql = "SELECT outbox_id, recipient, subject, body, attempts FROM email_outbox " +
+                     "WHERE (status = 'PENDING' AND next_attempt_at <= NOW()) " +
+                     "OR (status = 'SENDING' AND locked_until < NOW()) " +
+                     "ORDER BY next_attempt_at LIMIT ?";
+        List<EmailMessage> messages = new ArrayList<>();
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    EmailMessage message = new EmailMessage(rs.getString("recipient"),
+                        rs.getString("subject"), rs.getString("body"));
+                    message.setOutboxId(rs.getLong("outbox_id"));
+                    message.setAttempts(rs.getInt("attempts"));
+                    messages.add(message);
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error reading email outbox: " + e.getMessage());
+        }
+
+        return messages;
+    }
+
+    /**
+     * Take the message for sending for leaseSeconds.
+     * True only for the one caller that moved it to SENDING; false if another
+     * sender holds it, it was already sent, or the update failed.
+     */
+    public boolean claim(long outboxId, int leaseSeconds) {
+        String sql = "UPDATE email_outbox SET status = 'SENDING', " +
+                     "locked_until = NOW() + INTERVAL ? SECOND " +
+                     "WHERE outbox_id = ? AND (status = 'PENDING' " +
+                     "OR (status = 'SENDING' AND locked_until < NOW()))";
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, leaseSeconds);
+            stmt.setLong(2, outboxId);
+            return stmt.executeUpdate() == 1;
+        } catch (SQLException e) {
+            System.err.println("Error claiming email: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean markSent(long outboxId, int attempts) {
+        String sql = "UPDATE email_outbox SET status = 'SENT', attempts = ?, " +
+                     "sent_at = NOW(), last_error = NULL, locked_until = NULL WHERE outbox_id = ?";
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, attempts);
+            stmt.setLong(2, outboxId);
+            return stmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            System.err.println("Error updating email outbox: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Record a failed attempt and when to try again (releases the claim)
+     */
+    public boolean markRetry(long outboxId, int attempts, Timestamp nextAttemptAt, String error) {
+        String sql = "UPDATE email_outbox SET status = 'PENDING', attempts = ?, last_error = ?, " +
+                     "next_attempt_at = ?, locked_until = NULL WHERE outbox_id = ?";
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, attempts);
+            stmt.setString(2, truncate(error));
+            stmt.setTimestamp(3, nextAttemptAt);
+            stmt.setLong(4, outboxId);
+            return stmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            System.err.println("Error updating email outbox: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Give up on a message after the last attempt failed (dead letter)
+     */
+    public boolean markDead(long outboxId, int attempts, String error) {
+        String sql = "UPDATE email_outbox SET status = 'DEAD', attempts = ?, " +
+                     "last_error = ?, locked_until = NULL WHERE outbox_id = ?";
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, attempts);
+            stmt.setString(2, truncate(error));
+            stmt.setLong(3, outboxId);
+            return stmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            System.err.println("Error updating email outbox: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Number of messages in the given status (PENDING, SENDING, SENT or DEAD)
+     */
+    public int countByStatus(String status) {
+        String sql = "SELECT COUNT(*) AS total FROM email_outbox WHERE status = ?";
+        int count = 0;
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, status);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    count = rs.getInt("total");
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error counting email outbox: " + e.getMessage());
+        }
+
+        return count;
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
@@ -0,0 +1,56 @@
+package com.oceanview.dao;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QueryDeadline - Per-thread deadline for the SQL run by a piece of work
+ * While a deadline is set, StatementTimer gives every statement a query
+ * timeout of the time that is left, so the driver cancels the query on the
+ * server when the deadline passes. Interrupting the thread alone would
+ * leave the query running and the pooled connection busy.
+ */
+public final class QueryDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    private QueryDeadline() {
+    }
+
+    /**
+     * Run work with every statement it executes bounded by deadlineNanos (System.nanoTime())
+     */
+    public static <T> T call(long deadlineNanos, Callable<T> work) throws Exception {
+        Long previous = DEADLINE.get();
+        DEADLINE.set(deadlineNanos);
+        try {
+            return work.call();
+        } finally {
+            if (previous != null) {
+                DEADLINE.set(previous);
+            } else {
+                DEADLINE.remove();
+            }
+        }
+    }
+
+    /**
+     * Set the query timeout of a statement about to execute, if a deadline is set
+     */
+    static void apply(Statement statement) throws SQLException {
+        Long deadline = DEADLINE.get();
+        if (deadline == null) {
+            return;
+        }
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new SQLTimeoutException("Query deadline passed before the statement ran");
+        }
+        // JDBC timeouts are whole seconds; round up so we never cut a query short
+        long seconds = (TimeUnit.NANOSECONDS.toMillis(remaining) + 999) / 1000;
+        statement.setQueryTimeout((int) Math.min(Integer.MAX_VALUE, Math.max(1, seconds)));
+    }
+}
@@ -0,0 +1,116 @@
+package com.oceanview.dao;
+
+import com.oceanview.metrics.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * QueryStats - Timing of every SQL statement, aggregated by SQL text (Singleton)
+ * Fed by StatementTimer for each execute call on a pooled connection.
+ * Statements slower than oceanview.sql.slowMs (default 200) are logged with
+ * their SQL, and each one is also counted against the current request in
+ * RequestQueryLog.
+ */
+public class QueryStats {
+
+    private static final QueryStats INSTANCE = new QueryStats();
+
+    private static final int MAX_STATEMENTS = 500;
+    static final String OTHER_SQL = "(other)";
+
+    private final long slowNanos = Long.getLong("oceanview.sql.slowMs", 200) * 1_000_000L;
+    private final ConcurrentMap<String, SqlStats> statements = new ConcurrentHashMap<>();
+    private final LongAdder slowCount = new LongAdder();
+
+    QueryStats() {
+    }
+
+    public static QueryStats getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Record one executed statement
+     */
+    public void record(String sql, long nanos, boolean failed) {
+        String key = normalize(sql);
+        SqlStats stats = statements.get(key);
+        if (stats == null) {
+            if (statements.size() >= MAX_STATEMENTS) {
+                key = OTHER_SQL;
+            }
+            stats = statements.computeIfAbsent(key, SqlStats::new);
+        }
+        stats.latency.recordNanos(nanos);
+        if (failed) {
+            stats.errors.increment();
+        }
+
+        if (nanos >= slowNanos) {
+            slowCount.increment();
+            System.out.println(String.format("[SLOW SQL] %.1fms %s", nanos / 1_000_000.0, key));
+        }
+        RequestQueryLog.record(key);
+    }
+
+    /**
+     * The statements with the most total time, slowest first
+     */
+    public List<SqlStats> getTopStatements(int limit) {
+        List<SqlStats> list = new ArrayList<>(statements.values());
+        list.sort(Comparator.comparingLong((SqlStats s) -> s.latency.getSumMicros()).reversed());
+        return list.size() > limit ? new ArrayList<>(list.subList(0, limit)) : list;
+    }
+
+    public long getQueryCount() {
+        long total = 0;
+        for (SqlStats stats : statements.values()) {
+            total += stats.latency.getCount();
+        }
+        return total;
+    }
+
+    public long getSlowQueryCount() {
+        return slowCount.sum();
+    }
+
+    /**
+     * Collapse whitespace so the same statement always has the same key
+     */
+    static String normalize(String sql) {
+        if (sql == null) {
+            return "(unknown)";
+        }
+        return sql.trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Aggregate for one SQL text
+     */
+    public static final class SqlStats {
+        private final String sql;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        SqlStats(String sql) {
+            this.sql = sql;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        public long getErrorCount() {
+            return errors.sum();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.oceanview.dao;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * RequestQueryLog - Counts the SQL statements run while handling one request
+ * MetricsFilter calls begin() and end() around each request. A request that
+ * runs more than oceanview.sql.requestBudget statements (default 10) is
+ * logged with the statements it repeated, which is how N+1 loops and
+ * duplicate lookups show up.
+ */
+public class RequestQueryLog {
+
+    private static final int BUDGET = Integer.getInteger("oceanview.sql.requestBudget", 10);
+
+    private static final ThreadLocal<RequestQueryLog> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> counts = new LinkedHashMap<>();
+    private int total;
+
+    private RequestQueryLog() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new RequestQueryLog());
+    }
+
+    /**
+     * Stop counting for this thread; logs a warning if the budget was exceeded.
+     * Returns the number of statements the request ran.
+     */
+    public static int end(String requestName) {
+        RequestQueryLog log = CURRENT.get();
+        CURRENT.remove();
+        if (log == null) {
+            return 0;
+        }
+        if (log.total > BUDGET) {
+            System.out.println("[QUERY BUDGET] " + requestName + " ran " + log.total
+                + " statements (budget " + BUDGET + ")" + log.describeRepeats());
+        }
+        return log.total;
+    }
+
+    static void record(String sql) {
+        RequestQueryLog log = CURRENT.get();
+        if (log != null) {
+            log.total++;
+            log.counts.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    private String describeRepeats() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            if (entry.getValue() > 1) {
+                sb.append("\n    ").append(entry.getValue()).append("x ").append(entry.getKey());
+            }
+        }
+        return sb.toString();
+    }
+}
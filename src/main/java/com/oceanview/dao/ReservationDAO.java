@@ -1,33 +1,61 @@
 package com.oceanview.dao;
 
+import com.oceanview.model.Projection;
 import com.oceanview.model.Reservation;
+import java.io.IOException;
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ReservationDAO {
 
+    // API field name -> column, for projected listings (?fields=)
+    private static final Map<String, String> COLUMNS = new LinkedHashMap<>();
+    static {
+        COLUMNS.put("reservationId", "r.reservation_id");
+        COLUMNS.put("reservationNumber", "r.reservation_number");
+        COLUMNS.put("guestName", "r.guest_name");
+        COLUMNS.put("address", "r.address");
+        COLUMNS.put("contactNumber", "r.contact_number");
+        COLUMNS.put("guestEmail", "r.guest_email");
+        COLUMNS.put("roomId", "r.room_id");
+        COLUMNS.put("roomType", "r.room_type");
+        COLUMNS.put("checkInDate", "r.check_in_date");
+        COLUMNS.put("checkOutDate", "r.check_out_date");
+        COLUMNS.put("numberOfNights", "r.number_of_nights");
+        COLUMNS.put("totalCost", "r.total_cost");
+        COLUMNS.put("status", "r.status");
+        COLUMNS.put("version", "r.version");
+        COLUMNS.put("createdBy", "r.created_by");
+        COLUMNS.put("createdAt", "r.created_at");
+        COLUMNS.put("updatedAt", "r.updated_at");
+        COLUMNS.put("roomNumber", "rm.room_number");
+        COLUMNS.put("ratePerNight", "rm.rate_per_night");
+    }
+
     private DBConnection dbConnection;
+    private ReservationNumberAllocator numberAllocator;
 
     public ReservationDAO() {
         this.dbConnection = DBConnection.getInstance();
+        this.numberAllocator = ReservationNumberAllocator.getInstance();
     }
 
+    /**
+     * Next reservation number from this node's reserved block, or "" if none could be reserved
+     */
     public String generateReservationNumber() {
-        String reservationNumber = "";
-        try (Connection conn = dbConnection.getConnection();
-             CallableStatement stmt = conn.prepareCall("{CALL GenerateReservationNumber(?)}")) {
-            stmt.registerOutParameter(1, java.sql.Types.VARCHAR);
-            stmt.execute();
-            reservationNumber = stmt.getString(1);
-        } catch (SQLException e) {
-            System.err.println("Error generating reservation number: " + e.getMessage());
-        }
-        return reservationNumber;
+        String reservationNumber = numberAllocator.next();
+        return reservationNumber != null ? reservationNumber : "";
     }
 
     public boolean addReservation(Reservation reservation) {
@@ -35,7 +63,7 @@ public class ReservationDAO {
                      "contact_number, guest_email, room_id, room_type, check_in_date, check_out_date, created_by) " +
                      "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
         try (Connection conn = dbConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             stmt.setString(1, reservation.getReservationNumber());
             stmt.setString(2, reservation.getGuestName());
             stmt.setString(3, reservation.getAddress());
@@ -43,10 +71,18 @@ public class ReservationDAO {
             stmt.setString(5, reservation.getGuestEmail());
             stmt.setInt(6, reservation.getRoomId());
             stmt.setString(7, reservation.getRoomType());
-            stmt.setString(8, reservation.getCheckInDate());
-            stmt.setString(9, reservation.getCheckOutDate());
+            stmt.setObject(8, reservation.getCheckInDate());
+            stmt.setObject(9, reservation.getCheckOutDate());
             stmt.setInt(10, reservation.getCreatedBy());
-            return stmt.executeUpdate() > 0;
+            if (stmt.executeUpdate() == 0) {
+                return false;
+            }
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                if (keys.next()) {
+                    reservation.setReservationId(keys.getInt(1));
+                }
+            }
+            return true;
         } catch (SQLException e) {
             System.err.println("Error adding reservation: " + e.getMessage());
             return false;
@@ -54,7 +90,7 @@ public class ReservationDAO {
     }
 
     
-    public boolean hasOverlappingReservation(int roomId, String checkIn, String checkOut) {
+    public boolean hasOverlappingReservation(int roomId, LocalDate checkIn, LocalDate checkOut) {
         String sql = "SELECT COUNT(*) as count FROM reservations " +
                      "WHERE room_id = ? " +
                      "AND status = 'Confirmed' " +
@@ -63,8 +99,8 @@ public class ReservationDAO {
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, roomId);
-            stmt.setString(2, checkOut);
-            stmt.setString(3, checkIn);
+            stmt.setObject(2, checkOut);
+            stmt.setObject(3, checkIn);
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
                     return rs.getInt("count") > 0;
@@ -76,6 +112,37 @@ public class ReservationDAO {
         return false;
     }
 
+    /**
+     * Lock the room row and count Confirmed stays that overlap the dates.
+     * Must run inside UnitOfWork.inTransaction: the room lock is held until the
+     * booking transaction commits, so concurrent bookings for the same room
+     * queue here and each one sees the stays committed before it.
+     * One round trip - the correlated subquery runs after the room row is locked.
+     */
+    public int lockRoomAndCountOverlaps(int roomId, LocalDate checkIn, LocalDate checkOut)
+            throws SQLException {
+        String sql = "SELECT rm.room_id, " +
+                     "  (SELECT COUNT(*) FROM reservations r " +
+                     "   WHERE r.room_id = rm.room_id " +
+                     "     AND r.status = 'Confirmed' " +
+                     "     AND r.check_in_date < ? " +
+                     "     AND r.check_out_date > ? " +
+                     "   FOR UPDATE) AS overlaps " +
+                     "FROM rooms rm WHERE rm.room_id = ? FOR UPDATE";
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setObject(1, checkOut);
+            stmt.setObject(2, checkIn);
+            stmt.setInt(3, roomId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt("overlaps");
+                }
+            }
+        }
+        throw new SQLException("Room " + roomId + " not found while locking for booking");
+    }
+
     public Reservation getReservationByNumber(String reservationNumber) {
         Reservation reservation = null;
         try (Connection conn = dbConnection.getConnection();
@@ -109,13 +176,139 @@ public class ReservationDAO {
         return reservations;
     }
 
-    public boolean updateReservationStatus(int reservationId, String status) {
-        String sql = "UPDATE reservations SET status = ? WHERE reservation_id = ?";
+    /**
+     * One page of reservations ordered by (created_at, reservation_id) DESC.
+     * Keyset pagination: rows strictly after the (afterCreatedAt, afterId)
+     * cursor are read straight off idx_reservations_created, so every page
+     * costs the same however many reservations exist. Pass a null
+     * afterCreatedAt for the first page; status and the check-in date
+     * bounds are optional. Returns null on error.
+     */
+    public List<Reservation> getReservationPage(Timestamp afterCreatedAt, int afterId,
+                                                String status, String checkInFrom,
+                                                String checkInTo, int limit, Projection fields) {
+        StringBuilder sql = selectFrom(fields);
+        List<Object> params = new ArrayList<>();
+
+        if (afterCreatedAt != null) {
+            sql.append(" AND (r.created_at < ? OR (r.created_at = ? AND r.reservation_id < ?))");
+            params.add(afterCreatedAt);
+            params.add(afterCreatedAt);
+            params.add(afterId);
+        }
+        appendFilters(sql, params, status, checkInFrom, checkInTo);
+        sql.append(" ORDER BY r.created_at DESC, r.reservation_id DESC LIMIT ?");
+        params.add(limit);
+
+        List<Reservation> reservations = new ArrayList<>();
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+            for (int i = 0; i < params.size(); i++) {
+                stmt.setObject(i + 1, params.get(i));
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    reservations.add(extractReservation(rs, fields));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error getting reservation page: " + e.getMessage());
+            return null;
+        }
+        return reservations;
+    }
+
+    /**
+     * Stream every matching reservation, newest first, to the handler.
+     * Connector/J streams the result set row by row (forward-only,
+     * fetch size Integer.MIN_VALUE), so memory stays flat however many rows
+     * match. No other statement may run on the connection until this
+     * returns. Returns the number of rows handled.
+     */
+    public int streamReservations(String status, String checkInFrom, String checkInTo,
+                                  Projection fields, RowHandler<Reservation> handler)
+            throws SQLException, IOException {
+        StringBuilder sql = selectFrom(fields);
+        List<Object> params = new ArrayList<>();
+        appendFilters(sql, params, status, checkInFrom, checkInTo);
+        sql.append(" ORDER BY r.created_at DESC, r.reservation_id DESC");
+
+        int count = 0;
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString(),
+                 ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            stmt.setFetchSize(Integer.MIN_VALUE);
+            for (int i = 0; i < params.size(); i++) {
+                stmt.setObject(i + 1, params.get(i));
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    handler.handle(extractReservation(rs, fields));
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * SELECT ... FROM ... WHERE 1 = 1 for a listing.
+     * A projection selects only its columns plus the keyset columns
+     * (created_at, reservation_id), and joins rooms only when a room field
+     * is asked for.
+     */
+    private static StringBuilder selectFrom(Projection fields) {
+        if (fields.isAll()) {
+            return new StringBuilder(
+                "SELECT r.*, rm.room_number, rm.rate_per_night " +
+                "FROM reservations r JOIN rooms rm ON r.room_id = rm.room_id WHERE 1 = 1");
+        }
+        StringBuilder sql = new StringBuilder("SELECT r.reservation_id, r.created_at");
+        for (String field : fields.getFields()) {
+            String column = COLUMNS.get(field);
+            if (column != null && !"reservationId".equals(field) && !"createdAt".equals(field)) {
+                sql.append(", ").append(column);
+            }
+        }
+        sql.append(" FROM reservations r");
+        if (fields.includesAny("roomNumber", "ratePerNight")) {
+            sql.append(" JOIN rooms rm ON r.room_id = rm.room_id");
+        }
+        return sql.append(" WHERE 1 = 1");
+    }
+
+    private static void appendFilters(StringBuilder sql, List<Object> params, String status,
+                                      String checkInFrom, String checkInTo) {
+        if (status != null) {
+            sql.append(" AND r.status = ?");
+            params.add(status);
+        }
+        if (checkInFrom != null) {
+            sql.append(" AND r.check_in_date >= ?");
+            params.add(checkInFrom);
+        }
+        if (checkInTo != null) {
+            sql.append(" AND r.check_in_date <= ?");
+            params.add(checkInTo);
+        }
+    }
+
+    /**
+     * Compare-and-set status change: applies only if the reservation still has
+     * the expected status and version, and bumps the version.
+     * Returns false if someone else changed it first (or on a database error).
+     */
+    public boolean updateReservationStatus(int reservationId, String expectedStatus,
+                                           int expectedVersion, String newStatus) {
+        String sql = "UPDATE reservations SET status = ?, version = version + 1 " +
+                     "WHERE reservation_id = ? AND status = ? AND version = ?";
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, status);
+            stmt.setString(1, newStatus);
             stmt.setInt(2, reservationId);
-            return stmt.executeUpdate() > 0;
+            stmt.setString(3, expectedStatus);
+            stmt.setInt(4, expectedVersion);
+            return stmt.executeUpdate() == 1;
         } catch (SQLException e) {
             System.err.println("Error updating reservation status: " + e.getMessage());
             return false;
@@ -142,7 +335,9 @@ public class ReservationDAO {
     }
 
     public int getTotalReservationCount() {
-        String sql = "SELECT COUNT(*) as total FROM reservations";
+        // Maintained by the reservation triggers - no scan over the history
+        String sql = "SELECT IFNULL(SUM(counter_value), 0) AS total FROM stats_counters " +
+                     "WHERE counter_name = '" + CounterDAO.RESERVATIONS_TOTAL + "'";
         int count = 0;
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql);
@@ -157,7 +352,8 @@ public class ReservationDAO {
     }
 
     public int getActiveReservationCount() {
-        String sql = "SELECT COUNT(*) as total FROM reservations WHERE status = 'Confirmed'";
+        String sql = "SELECT IFNULL(SUM(counter_value), 0) AS total FROM stats_counters " +
+                     "WHERE counter_name = '" + CounterDAO.RESERVATIONS_CONFIRMED + "'";
         int count = 0;
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql);
@@ -171,7 +367,30 @@ public class ReservationDAO {
         return count;
     }
 
-    public List<Reservation> getReservationsByDateRange(String startDate, String endDate) {
+    /**
+     * Number of reservations in each status, counted in SQL.
+     * Reads only idx_reservations_status_created, never the rows themselves.
+     */
+    public Map<String, Integer> getReservationCountsByStatus() {
+        String sql = "SELECT status, COUNT(*) AS total FROM reservations GROUP BY status";
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                counts.put(rs.getString("status"), rs.getInt("total"));
+            }
+        } catch (SQLException e) {
+            System.err.println("Error counting reservations by status: " + e.getMessage());
+        }
+        return counts;
+    }
+
+    /**
+     * Reservations checking in within the range
+     * Returns null if the query fails, so the report can show it as missing
+     */
+    public List<Reservation> getReservationsByDateRange(LocalDate startDate, LocalDate endDate) {
         String sql = "SELECT r.*, rm.room_number, rm.rate_per_night " +
                      "FROM reservations r " +
                      "JOIN rooms rm ON r.room_id = rm.room_id " +
@@ -180,8 +399,8 @@ public class ReservationDAO {
         List<Reservation> reservations = new ArrayList<>();
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, startDate);
-            stmt.setString(2, endDate);
+            stmt.setObject(1, startDate);
+            stmt.setObject(2, endDate);
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
                     reservations.add(extractReservation(rs));
@@ -189,11 +408,16 @@ public class ReservationDAO {
             }
         } catch (SQLException e) {
             System.err.println("Error getting reservations by date range: " + e.getMessage());
+            return null;
         }
         return reservations;
     }
 
-    public double getRevenueByDateRange(String startDate, String endDate) {
+    /**
+     * Billed revenue for reservations checking in within the range
+     * Returns null if the query fails, so the report can show it as missing
+     */
+    public Double getRevenueByDateRange(LocalDate startDate, LocalDate endDate) {
         String sql = "SELECT IFNULL(SUM(b.total_amount), 0) AS total " +
                      "FROM bills b " +
                      "JOIN reservations r ON b.reservation_id = r.reservation_id " +
@@ -201,8 +425,8 @@ public class ReservationDAO {
         double revenue = 0;
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, startDate);
-            stmt.setString(2, endDate);
+            stmt.setObject(1, startDate);
+            stmt.setObject(2, endDate);
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
                     revenue = rs.getDouble("total");
@@ -210,10 +434,98 @@ public class ReservationDAO {
             }
         } catch (SQLException e) {
             System.err.println("Error getting revenue by date range: " + e.getMessage());
+            return null;
         }
         return revenue;
     }
 
+    /**
+     * Get every Confirmed stay (id, room and dates only) for the availability index
+     * Returns null if the query fails, so callers can tell "none" from "unknown"
+     */
+    public List<Reservation> getConfirmedStays() {
+        String sql = "SELECT reservation_id, room_id, check_in_date, check_out_date, status, version " +
+                     "FROM reservations WHERE status = 'Confirmed'";
+        List<Reservation> stays = new ArrayList<>();
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                stays.add(extractStay(rs));
+            }
+        } catch (SQLException e) {
+            System.err.println("Error getting confirmed stays: " + e.getMessage());
+            return null;
+        }
+        return stays;
+    }
+
+    /**
+     * Get the stay (id, room, dates and status) of one reservation
+     */
+    public Reservation getStayById(int reservationId) {
+        String sql = "SELECT reservation_id, room_id, check_in_date, check_out_date, status, version " +
+                     "FROM reservations WHERE reservation_id = ?";
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, reservationId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return extractStay(rs);
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error getting stay: " + e.getMessage());
+        }
+        return null;
+    }
+
+    private Reservation extractStay(ResultSet rs) throws SQLException {
+        Reservation stay = new Reservation();
+        stay.setReservationId(rs.getInt("reservation_id"));
+        stay.setRoomId(rs.getInt("room_id"));
+        stay.setCheckInDate(rs.getObject("check_in_date", LocalDate.class));
+        stay.setCheckOutDate(rs.getObject("check_out_date", LocalDate.class));
+        stay.setStatus(rs.getString("status"));
+        stay.setVersion(rs.getInt("version"));
+        return stay;
+    }
+
+    /**
+     * Read the columns selectFrom(fields) selected
+     */
+    private Reservation extractReservation(ResultSet rs, Projection fields) throws SQLException {
+        if (fields.isAll()) {
+            return extractReservation(rs);
+        }
+        Reservation reservation = new Reservation();
+        reservation.setReservationId(rs.getInt("reservation_id"));
+        reservation.setCreatedAt(rs.getTimestamp("created_at"));
+        for (String field : fields.getFields()) {
+            switch (field) {
+                case "reservationNumber": reservation.setReservationNumber(rs.getString("reservation_number")); break;
+                case "guestName":         reservation.setGuestName(rs.getString("guest_name")); break;
+                case "address":           reservation.setAddress(rs.getString("address")); break;
+                case "contactNumber":     reservation.setContactNumber(rs.getString("contact_number")); break;
+                case "guestEmail":        reservation.setGuestEmail(rs.getString("guest_email")); break;
+                case "roomId":            reservation.setRoomId(rs.getInt("room_id")); break;
+                case "roomType":          reservation.setRoomType(rs.getString("room_type")); break;
+                case "checkInDate":       reservation.setCheckInDate(rs.getObject("check_in_date", LocalDate.class)); break;
+                case "checkOutDate":      reservation.setCheckOutDate(rs.getObject("check_out_date", LocalDate.class)); break;
+                case "numberOfNights":    reservation.setNumberOfNights(rs.getInt("number_of_nights")); break;
+                case "totalCost":         reservation.setTotalCost(rs.getDouble("total_cost")); break;
+                case "status":            reservation.setStatus(rs.getString("status")); break;
+                case "version":           reservation.setVersion(rs.getInt("version")); break;
+                case "createdBy":         reservation.setCreatedBy(rs.getInt("created_by")); break;
+                case "updatedAt":         reservation.setUpdatedAt(rs.getTimestamp("updated_at")); break;
+                case "roomNumber":        reservation.setRoomNumber(rs.getString("room_number")); break;
+                case "ratePerNight":      reservation.setRatePerNight(rs.getDouble("rate_per_night")); break;
+                default:                  break;
+            }
+        }
+        return reservation;
+    }
+
     private Reservation extractReservation(ResultSet rs) throws SQLException {
         Reservation reservation = new Reservation();
         reservation.setReservationId(rs.getInt("reservation_id"));
@@ -223,11 +535,12 @@ public class ReservationDAO {
         reservation.setContactNumber(rs.getString("contact_number"));
         reservation.setRoomType(rs.getString("room_type"));
         reservation.setRoomNumber(rs.getString("room_number"));
-        reservation.setCheckInDate(rs.getString("check_in_date"));
-        reservation.setCheckOutDate(rs.getString("check_out_date"));
+        reservation.setCheckInDate(rs.getObject("check_in_date", LocalDate.class));
+        reservation.setCheckOutDate(rs.getObject("check_out_date", LocalDate.class));
         reservation.setNumberOfNights(rs.getInt("number_of_nights"));
         reservation.setTotalCost(rs.getDouble("total_cost"));
         reservation.setStatus(rs.getString("status"));
+        reservation.setVersion(rs.getInt("version"));
         reservation.setRatePerNight(rs.getDouble("rate_per_night"));
         reservation.setCreatedAt(rs.getTimestamp("created_at"));
         return reservation;
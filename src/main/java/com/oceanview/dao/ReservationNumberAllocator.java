@@ -0,0 +1,165 @@
+package com.oceanview.dao;
+
+import java.time.LocalDate;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ReservationNumberAllocator - Hands out OVR-YYYY-NNNN numbers from memory (Singleton)
+ * Hi/lo allocation: the node reserves a block of numbers with one update
+ * (ReservationNumberDAO) and then hands them out with a single atomic
+ * increment. Once three quarters of a block are handed out, a background
+ * thread reserves the next one, so a booking normally never waits for a
+ * refill: a refill borrows a second connection, and doing that while the
+ * booking holds its own connection and the room lock could exhaust the
+ * pool. Only the first block of a year, or one whose prefetch failed, is
+ * reserved on the calling thread. Numbers left in a block when the node
+ * stops are skipped, so numbers are unique and increasing per node but may
+ * have gaps.
+ *
+ * Block size comes from oceanview.reservationNumber.blockSize (default 20).
+ * NNNN grows past four digits once a year issues more than 9999 numbers.
+ */
+public class ReservationNumberAllocator {
+
+    private static final ReservationNumberAllocator INSTANCE = new ReservationNumberAllocator(
+        new ReservationNumberDAO(), Integer.getInteger("oceanview.reservationNumber.blockSize", 20),
+        newPrefetcher());
+
+    private final ReservationNumberDAO numberDAO;
+    private final int blockSize;
+    private final Executor prefetcher;
+    private final AtomicReference<Block> current = new AtomicReference<>();
+    private final Object refillLock = new Object();
+
+    // Next block, reserved ahead of time; guarded by refillLock
+    private Block spare;
+
+    ReservationNumberAllocator(ReservationNumberDAO numberDAO, int blockSize, Executor prefetcher) {
+        this.numberDAO = numberDAO;
+        this.blockSize = Math.max(1, blockSize);
+        this.prefetcher = prefetcher;
+    }
+
+    public static ReservationNumberAllocator getInstance() {
+        return INSTANCE;
+    }
+
+    private static ExecutorService newPrefetcher() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), r -> {
+                Thread t = new Thread(r, "reservation-number-prefetch");
+                t.setDaemon(true);
+                return t;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Reserve this year's first block in the background.
+     * Called by AppContextListener on startup.
+     */
+    public void start() {
+        prefetch(LocalDate.now().getYear());
+    }
+
+    /**
+     * Stop the prefetch thread. Called by AppContextListener on shutdown.
+     */
+    public void stop() {
+        if (prefetcher instanceof ExecutorService) {
+            ((ExecutorService) prefetcher).shutdownNow();
+        }
+    }
+
+    /**
+     * Next reservation number for the current year, or null if no block could be reserved
+     */
+    public String next() {
+        return next(LocalDate.now().getYear());
+    }
+
+    String next(int year) {
+        while (true) {
+            Block block = current.get();
+            if (block != null && block.year == year) {
+                long number = block.next.getAndIncrement();
+                if (number < block.end) {
+                    if (number == block.prefetchAt) {
+                        prefetch(year);
+                    }
+                    return format(year, number);
+                }
+            }
+
+            // Block used up or the year rolled over - one thread installs the next one
+            synchronized (refillLock) {
+                if (current.get() != block) {
+                    continue;
+                }
+                Block next = spare;
+                spare = null;
+                if (next == null || next.year != year) {
+                    next = reserve(year);
+                    if (next == null) {
+                        return null;
+                    }
+                }
+                current.set(next);
+            }
+        }
+    }
+
+    /**
+     * Reserve the spare block on the prefetch thread, unless one is already waiting.
+     * Holding refillLock meanwhile makes a thread that runs out first wait for it.
+     */
+    private void prefetch(int year) {
+        try {
+            prefetcher.execute(() -> {
+                synchronized (refillLock) {
+                    if (spare == null || spare.year != year) {
+                        spare = reserve(year);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Stopped - the next refill happens on the calling thread
+        }
+    }
+
+    private Block reserve(int year) {
+        long first = numberDAO.reserveBlock(year, blockSize);
+        return first < 0 ? null : new Block(year, first, first + blockSize);
+    }
+
+    static String format(int year, long number) {
+        String digits = Long.toString(number);
+        StringBuilder sb = new StringBuilder(13).append("OVR-").append(year).append('-');
+        for (int i = digits.length(); i < 4; i++) {
+            sb.append('0');
+        }
+        return sb.append(digits).toString();
+    }
+
+    private static final class Block {
+        final int year;
+        final AtomicLong next;
+        final long end;
+        final long prefetchAt;
+
+        Block(int year, long first, long end) {
+            this.year = year;
+            this.next = new AtomicLong(first);
+            this.end = end;
+            this.prefetchAt = first + (end - first) * 3 / 4;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.oceanview.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * ReservationNumberDAO - Reserves blocks of reservation numbers
+ * reservation_number_blocks holds the next free number for each year. One
+ * atomic UPDATE moves it forward by a whole block, so nodes never hand out
+ * the same number and the reservations table is never scanned per booking.
+ *
+ * Blocks are reserved on a connection of their own in auto-commit mode: a
+ * booking that rolls back must not give its block back, because the
+ * allocator keeps handing out the rest of it from memory.
+ */
+public class ReservationNumberDAO {
+
+    private DBConnection dbConnection;
+
+    public ReservationNumberDAO() {
+        this.dbConnection = DBConnection.getInstance();
+    }
+
+    /**
+     * Reserve blockSize numbers for the year.
+     * Returns the first number of the block, or -1 on a database error.
+     */
+    public long reserveBlock(int year, int blockSize) {
+        try (Connection conn = dbConnection.borrow()) {
+            long end = advance(conn, year, blockSize);
+            if (end < 0) {
+                // First block of the year on any node
+                seedYear(conn, year);
+                end = advance(conn, year, blockSize);
+            }
+            return end < 0 ? -1 : end - blockSize;
+        } catch (SQLException e) {
+            System.err.println("Error reserving reservation numbers for " + year + ": " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Move the year's counter forward; returns the new next_value, or -1 if the year has no row
+     */
+    private long advance(Connection conn, int year, int blockSize) throws SQLException {
+        String sql = "UPDATE reservation_number_blocks " +
+                     "SET next_value = LAST_INSERT_ID(next_value + ?) WHERE number_year = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, blockSize);
+            stmt.setInt(2, year);
+            if (stmt.executeUpdate() == 0) {
+                return -1;
+            }
+        }
+        // LAST_INSERT_ID(expr) is per connection, so this is our own update's value
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT LAST_INSERT_ID()");
+             ResultSet rs = stmt.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : -1;
+        }
+    }
+
+    /**
+     * Start the year's counter after the highest number already issued for it
+     */
+    private void seedYear(Connection conn, int year) throws SQLException {
+        String sql = "INSERT IGNORE INTO reservation_number_blocks (number_year, next_value) " +
+                     "SELECT ?, IFNULL(MAX(CAST(SUBSTRING(reservation_number, 10) AS UNSIGNED)), 0) + 1 " +
+                     "FROM reservations WHERE reservation_number LIKE ?";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, year);
+            stmt.setString(2, "OVR-" + year + "-%");
+            stmt.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.oceanview.dao;
+
+import com.oceanview.model.Room;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RoomCatalogCache - Read-through cache of the rooms table (Singleton)
+ * The rooms table is tiny and only changes when a reservation status change
+ * makes the database triggers flip rooms.status, so the whole table is kept
+ * in memory and reloaded on the first read after invalidate().
+ *
+ * ReservationService calls invalidate() after every booking and status
+ * change. MAX_AGE_MS bounds staleness from changes made by other nodes.
+ */
+public class RoomCatalogCache {
+
+    private static final RoomCatalogCache INSTANCE = new RoomCatalogCache();
+
+    private static final long MAX_AGE_MS = 60 * 1000;
+
+    private volatile Catalog catalog;
+    private final AtomicLong generation = new AtomicLong();
+    private final Object loadLock = new Object();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    RoomCatalogCache() {
+    }
+
+    public static RoomCatalogCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Current catalog, loading it through the loader on a miss.
+     * Only one thread loads at a time; the others wait and reuse its result.
+     */
+    public Catalog get(RoomLoader loader) throws SQLException {
+        Catalog current = catalog;
+        if (current != null && current.isFresh()) {
+            hits.increment();
+            return current;
+        }
+
+        synchronized (loadLock) {
+            current = catalog;
+            if (current != null && current.isFresh()) {
+                hits.increment();
+                return current;
+            }
+
+            misses.increment();
+            long loadGeneration = generation.get();
+            Catalog loaded = new Catalog(loader.loadAll());
+
+            // Don't install a catalog read before a concurrent invalidate()
+            if (generation.get() == loadGeneration) {
+                catalog = loaded;
+            }
+            return loaded;
+        }
+    }
+
+    /**
+     * Drop the cached rooms - the next read goes to the database.
+     * Called when a reservation status change flips rooms.status.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        catalog = null;
+        invalidations.increment();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Hit/miss counters for monitoring
+     */
+    public Map<String, Object> getStats() {
+        long h = hits.sum();
+        long m = misses.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", h);
+        stats.put("misses", m);
+        stats.put("invalidations", invalidations.sum());
+        stats.put("hitRatio", h + m > 0 ? (double) h / (h + m) : 0.0);
+        stats.put("cachedRooms", catalog != null ? catalog.rooms.size() : 0);
+        return stats;
+    }
+
+    /**
+     * Loads the full rooms table
+     */
+    @FunctionalInterface
+    public interface RoomLoader {
+        List<Room> loadAll() throws SQLException;
+    }
+
+    /**
+     * Immutable snapshot of the rooms table.
+     * Every accessor returns copies so callers can't change the cached rooms.
+     */
+    public static final class Catalog {
+        private final List<Room> rooms;
+        private final Map<Integer, Room> byId = new HashMap<>();
+        private final List<String> roomTypes;
+        private final long loadedAt = System.currentTimeMillis();
+
+        Catalog(List<Room> rooms) {
+            this.rooms = Collections.unmodifiableList(new ArrayList<>(rooms));
+            TreeSet<String> types = new TreeSet<>();
+            for (Room room : rooms) {
+                byId.put(room.getRoomId(), room);
+                types.add(room.getRoomType());
+            }
+            this.roomTypes = Collections.unmodifiableList(new ArrayList<>(types));
+        }
+
+        boolean isFresh() {
+            return System.currentTimeMillis() - loadedAt < MAX_AGE_MS;
+        }
+
+        public List<Room> getAllRooms() {
+            List<Room> copies = new ArrayList<>(rooms.size());
+            for (Room room : rooms) {
+                copies.add(copy(room));
+            }
+            return copies;
+        }
+
+        public Room getRoomById(int roomId) {
+            Room room = byId.get(roomId);
+            return room != null ? copy(room) : null;
+        }
+
+        public List<Room> getAvailableRoomsByType(String roomType) {
+            List<Room> copies = new ArrayList<>();
+            for (Room room : rooms) {
+                if (room.getRoomType().equals(roomType) && "Available".equals(room.getStatus())) {
+                    copies.add(copy(room));
+                }
+            }
+            return copies;
+        }
+
+        public int getAvailableRoomCount(String roomType) {
+            int count = 0;
+            for (Room room : rooms) {
+                if (room.getRoomType().equals(roomType) && "Available".equals(room.getStatus())) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        public int getTotalRoomCount() {
+            return rooms.size();
+        }
+
+        public int getOccupiedRoomCount() {
+            int count = 0;
+            for (Room room : rooms) {
+                if ("Occupied".equals(room.getStatus())) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        public List<String> getRoomTypes() {
+            return new ArrayList<>(roomTypes);
+        }
+
+        private static Room copy(Room room) {
+            return new Room(room.getRoomId(), room.getRoomNumber(), room.getRoomType(),
+                room.getRatePerNight(), room.getStatus(), room.getDescription());
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -20,6 +21,18 @@ public class RoomDAO {
      * Get all rooms from database
      */
     public List<Room> getAllRooms() {
+        try {
+            return loadAllRooms();
+        } catch (SQLException e) {
+            System.err.println("Error getting all rooms: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Load every room, reporting failures to the caller (used to fill the room cache)
+     */
+    protected List<Room> loadAllRooms() throws SQLException {
         String sql = "SELECT * FROM rooms ORDER BY room_number";
         List<Room> rooms = new ArrayList<>();
 
@@ -31,8 +44,6 @@ public class RoomDAO {
                 Room room = extractRoomFromResultSet(rs);
                 rooms.add(room);
             }
-        } catch (SQLException e) {
-            System.err.println("Error getting all rooms: " + e.getMessage());
         }
 
         return rooms;
@@ -67,7 +78,7 @@ public class RoomDAO {
      * Get available rooms by type and date range
      * Date overlap check — rooms.status use නොකරයි
      */
-    public List<Room> getAvailableRoomsByTypeAndDateRange(String roomType, String checkIn, String checkOut) {
+    public List<Room> getAvailableRoomsByTypeAndDateRange(String roomType, LocalDate checkIn, LocalDate checkOut) {
         String sql =
             "SELECT rm.* FROM rooms rm " +
             "WHERE rm.room_type = ? " +
@@ -86,8 +97,8 @@ public class RoomDAO {
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, roomType);
-            stmt.setString(2, checkOut);
-            stmt.setString(3, checkIn);
+            stmt.setObject(2, checkOut);
+            stmt.setObject(3, checkIn);
 
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
@@ -186,6 +197,7 @@ public class RoomDAO {
 
     /**
      * Get room occupancy summary for reports
+     * Returns null if the query fails, so the report can show it as missing
      */
     public List<Room> getRoomOccupancyReport() {
         String sql = "SELECT room_type, status, COUNT(*) as room_count, " +
@@ -207,6 +219,7 @@ public class RoomDAO {
             }
         } catch (SQLException e) {
             System.err.println("Error getting occupancy report: " + e.getMessage());
+            return null;
         }
 
         return report;
@@ -234,10 +247,11 @@ public class RoomDAO {
     }
 
     /**
-     * Get occupied room count
+     * Get occupied room count (running total kept by the room trigger)
      */
     public int getOccupiedRoomCount() {
-        String sql = "SELECT COUNT(*) as total FROM rooms WHERE status = 'Occupied'";
+        String sql = "SELECT IFNULL(SUM(counter_value), 0) AS total FROM stats_counters " +
+                     "WHERE counter_name = '" + CounterDAO.ROOMS_OCCUPIED + "'";
         int count = 0;
 
         try (Connection conn = dbConnection.getConnection();
@@ -0,0 +1,12 @@
+package com.oceanview.dao;
+
+import java.io.IOException;
+
+/**
+ * RowHandler - Receives rows one at a time from a streaming DAO query
+ * Used to write large exports straight to the response without building a list.
+ */
+@FunctionalInterface
+public interface RowHandler<T> {
+    void handle(T row) throws IOException;
+}
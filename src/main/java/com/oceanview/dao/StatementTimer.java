@@ -0,0 +1,67 @@
+package com.oceanview.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Statement;
+
+/**
+ * StatementTimer - Times the execute calls of a JDBC statement
+ * DBConnection wraps every Statement, PreparedStatement and CallableStatement
+ * it hands out, so each execute is reported to QueryStats without any change
+ * to the DAOs. It also applies the QueryDeadline of the current thread.
+ */
+final class StatementTimer implements InvocationHandler {
+
+    private final Statement statement;
+    private final String sql;
+
+    private StatementTimer(Statement statement, String sql) {
+        this.statement = statement;
+        this.sql = sql;
+    }
+
+    /**
+     * Wrap a statement as the given interface; sql is null for a plain Statement
+     */
+    static Object wrap(Statement statement, String sql, Class<?> type) {
+        return Proxy.newProxyInstance(
+            StatementTimer.class.getClassLoader(),
+            new Class<?>[] { type },
+            new StatementTimer(statement, sql));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (!method.getName().startsWith("execute")) {
+            return call(method, args);
+        }
+
+        // Plain Statement: the SQL is the first argument
+        String text = sql;
+        if (text == null && args != null && args.length > 0 && args[0] instanceof String) {
+            text = (String) args[0];
+        }
+
+        QueryDeadline.apply(statement);
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = call(method, args);
+            failed = false;
+            return result;
+        } finally {
+            QueryStats.getInstance().record(text, System.nanoTime() - start, failed);
+        }
+    }
+
+    private Object call(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(statement, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.oceanview.dao;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * UnitOfWork - Binds one pooled connection to the current thread
+ * While a unit of work is active, every DBConnection.getConnection() call on
+ * this thread gets the same connection, so all DAO calls in one HTTP request
+ * share it. The connection is borrowed lazily on first use and handed back to
+ * the pool by end().
+ *
+ * inTransaction() runs a block of DAO calls as one JDBC transaction on that
+ * shared connection.
+ */
+public final class UnitOfWork {
+
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    // Pooled connection (close() returns it to the pool) and the shared view handed to DAOs
+    private Connection pooled;
+    private Connection shared;
+
+    private boolean inTransaction;
+    private boolean rollbackOnly;
+
+    private UnitOfWork() {
+    }
+
+    /**
+     * Start a unit of work on the current thread
+     */
+    public static UnitOfWork begin() {
+        if (CURRENT.get() != null) {
+            throw new IllegalStateException("A unit of work is already active on this thread");
+        }
+        UnitOfWork uow = new UnitOfWork();
+        CURRENT.set(uow);
+        return uow;
+    }
+
+    /**
+     * The unit of work bound to the current thread, or null if none
+     */
+    public static UnitOfWork current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Run work inside one transaction. Joins the surrounding transaction if one
+     * is already open; otherwise commits on success and rolls back on an
+     * exception or when setRollbackOnly() was called.
+     * Outside a request (no active unit of work) a temporary one is used.
+     */
+    public static <T> T inTransaction(SqlWork<T> work) throws SQLException {
+        UnitOfWork uow = current();
+        boolean temporary = uow == null;
+        if (temporary) {
+            uow = begin();
+        }
+
+        try {
+            if (uow.inTransaction) {
+                return work.execute();
+            }
+            return uow.runTransaction(work);
+        } finally {
+            if (temporary) {
+                uow.end();
+            }
+        }
+    }
+
+    /**
+     * Mark the current transaction so that it rolls back instead of committing
+     */
+    public static void setRollbackOnly() {
+        UnitOfWork uow = current();
+        if (uow != null && uow.inTransaction) {
+            uow.rollbackOnly = true;
+        }
+    }
+
+    /**
+     * Release the connection back to the pool and unbind from the thread
+     */
+    public void end() {
+        try {
+            if (pooled != null) {
+                if (inTransaction) {
+                    rollbackQuietly();
+                }
+                pooled.close();
+            }
+        } catch (SQLException e) {
+            System.err.println("Error releasing unit of work connection: " + e.getMessage());
+        } finally {
+            pooled = null;
+            shared = null;
+            inTransaction = false;
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Connection shared by every DAO call in this unit of work.
+     * close() on it is ignored - the connection lives until end().
+     */
+    Connection getConnection(DBConnection pool) throws SQLException {
+        if (shared == null) {
+            pooled = pool.borrow();
+            if (inTransaction) {
+                pooled.setAutoCommit(false);
+            }
+            shared = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName())) {
+                        return null;
+                    }
+                    try {
+                        return method.invoke(pooled, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        }
+        return shared;
+    }
+
+    /**
+     * Drop the shared connection if conn is it, after it has been aborted;
+     * the next getConnection() borrows a fresh one. The pool discards the
+     * dead connection. A transaction in progress is lost with the session,
+     * so the rest of it is rolled back too.
+     */
+    static void discardConnection(Connection conn) {
+        UnitOfWork uow = current();
+        if (uow == null || uow.shared == null || uow.shared != conn) {
+            return;
+        }
+        try {
+            uow.pooled.close();
+        } catch (SQLException e) {
+            System.err.println("Error discarding unit of work connection: " + e.getMessage());
+        } finally {
+            uow.pooled = null;
+            uow.shared = null;
+            if (uow.inTransaction) {
+                uow.rollbackOnly = true;
+            }
+        }
+    }
+
+    private <T> T runTransaction(SqlWork<T> work) throws SQLException {
+        inTransaction = true;
+        rollbackOnly = false;
+        try {
+            if (pooled != null) {
+                pooled.setAutoCommit(false);
+            }
+
+            T result = work.execute();
+
+            if (pooled != null) {
+                if (rollbackOnly) {
+                    pooled.rollback();
+                } else {
+                    pooled.commit();
+                }
+            }
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            rollbackQuietly();
+            throw e;
+        } finally {
+            inTransaction = false;
+            rollbackOnly = false;
+            if (pooled != null) {
+                try {
+                    pooled.setAutoCommit(true);
+                } catch (SQLException e) {
+                    System.err.println("Error restoring auto-commit: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void rollbackQuietly() {
+        if (pooled == null) {
+            return;
+        }
+        try {
+            pooled.rollback();
+        } catch (SQLException e) {
+            System.err.println("Error rolling back transaction: " + e.getMessage());
+        }
+    }
+
+    /**
+     * A block of DAO calls run inside a transaction
+     */
+    @FunctionalInterface
+    public interface SqlWork<T> {
+        T execute() throws SQLException;
+    }
+}
@@ -21,7 +21,7 @@ import java.io.IOException;
  * Public resources like login page, CSS, JS, and API endpoints are excluded.
  * Role-based access control restricts admin-only pages from staff users.
  */
-@WebFilter("/*")
+@WebFilter(urlPatterns = "/*", asyncSupported = true)
 public class AuthenticationFilter implements Filter {
 
     @Override
@@ -0,0 +1,92 @@
+package com.oceanview.filter;
+
+import com.oceanview.dao.RequestQueryLog;
+import com.oceanview.metrics.MetricsRegistry;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.annotation.WebFilter;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * MetricsFilter - Times every request and records it in MetricsRegistry
+ * Requests are grouped by path and action parameter, e.g.
+ * "/reservation?action=add" or "/api/rooms". Static files are grouped under
+ * "static". A response status of 500 or above, or an exception, counts as
+ * an error. Long-lived async streams are not timed.
+ * SQL statements run by each request are counted by RequestQueryLog, which
+ * warns about requests over the query budget.
+ */
+@WebFilter(urlPatterns = "/*", asyncSupported = true)
+public class MetricsFilter implements Filter {
+
+    private MetricsRegistry registry;
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+        registry = MetricsRegistry.getInstance();
+        System.out.println("MetricsFilter initialized - recording request latency");
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        RequestQueryLog.begin();
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!httpRequest.isAsyncStarted()) {
+                long elapsed = System.nanoTime() - start;
+                boolean error = failed || httpResponse.getStatus() >= 500;
+                String key = endpointKey(httpRequest);
+                registry.record(key, elapsed, error);
+                RequestQueryLog.end(key);
+            } else {
+                RequestQueryLog.end(null);
+            }
+        }
+    }
+
+    /**
+     * Path (without context) plus "?action=..." when an action is given
+     */
+    static String endpointKey(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (isStatic(path)) {
+            return "static";
+        }
+        if (path.isEmpty()) {
+            path = "/";
+        }
+        // Called after the chain, so the servlet has already parsed any POST body
+        String action = request.getParameter("action");
+        return action != null && !action.isEmpty() ? path + "?action=" + action : path;
+    }
+
+    private static boolean isStatic(String path) {
+        return path.endsWith(".css")
+                || path.endsWith(".js")
+                || path.endsWith(".png")
+                || path.endsWith(".jpg")
+                || path.endsWith(".jpeg")
+                || path.endsWith(".ico");
+    }
+
+    @Override
+    public void destroy() {
+        System.out.println("MetricsFilter destroyed");
+    }
+}
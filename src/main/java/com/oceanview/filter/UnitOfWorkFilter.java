@@ -0,0 +1,50 @@
+package com.oceanview.filter;
+
+import com.oceanview.dao.UnitOfWork;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.annotation.WebFilter;
+import java.io.IOException;
+
+/**
+ * UnitOfWorkFilter - Opens a request-scoped UnitOfWork around every request
+ * All DAO calls made while handling one HTTP request share a single pooled
+ * JDBC connection, which is only borrowed if the request actually touches
+ * the database and is returned to the pool when the request completes.
+ */
+@WebFilter(urlPatterns = "/*", asyncSupported = true)
+public class UnitOfWorkFilter implements Filter {
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+        System.out.println("UnitOfWorkFilter initialized - one DB connection per request");
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        // Nested dispatches (or a container reusing the thread) join the outer unit
+        if (UnitOfWork.current() != null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        UnitOfWork uow = UnitOfWork.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            uow.end();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        System.out.println("UnitOfWorkFilter destroyed");
+    }
+}
@@ -0,0 +1,98 @@
+package com.oceanview.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.oceanview.model.Projection;
+import com.oceanview.model.Bill;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * BillAdapter - Hand-written JSON mapping for Bill
+ * Same field names as reflective Gson, limited to the Projection if given.
+ * Null fields are skipped.
+ */
+public class BillAdapter extends TypeAdapter<Bill> {
+
+    /**
+     * Every field name this adapter can write, for validating ?fields=
+     */
+    public static final Set<String> FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(
+        "billId", "reservationId", "reservationNumber", "guestName", "roomType",
+        "roomNumber", "checkInDate", "checkOutDate", "numberOfNights", "ratePerNight",
+        "totalAmount", "billDate", "generatedBy", "paymentStatus", "paymentMethod",
+        "paidAt")));
+
+    private final Projection fields;
+
+    public BillAdapter() {
+        this(Projection.ALL);
+    }
+
+    /**
+     * Adapter that writes only the projected fields
+     */
+    public BillAdapter(Projection fields) {
+        this.fields = fields;
+    }
+
+    @Override
+    public void write(JsonWriter out, Bill b) throws IOException {
+        if (b == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        JsonFields.number(out, fields, "billId", b.getBillId());
+        JsonFields.number(out, fields, "reservationId", b.getReservationId());
+        JsonFields.string(out, fields, "reservationNumber", b.getReservationNumber());
+        JsonFields.string(out, fields, "guestName", b.getGuestName());
+        JsonFields.string(out, fields, "roomType", b.getRoomType());
+        JsonFields.string(out, fields, "roomNumber", b.getRoomNumber());
+        JsonFields.date(out, fields, "checkInDate", b.getCheckInDate());
+        JsonFields.date(out, fields, "checkOutDate", b.getCheckOutDate());
+        JsonFields.number(out, fields, "numberOfNights", b.getNumberOfNights());
+        JsonFields.number(out, fields, "ratePerNight", b.getRatePerNight());
+        JsonFields.number(out, fields, "totalAmount", b.getTotalAmount());
+        JsonFields.timestamp(out, fields, "billDate", b.getBillDate());
+        JsonFields.number(out, fields, "generatedBy", b.getGeneratedBy());
+        JsonFields.string(out, fields, "paymentStatus", b.getPaymentStatus());
+        JsonFields.string(out, fields, "paymentMethod", b.getPaymentMethod());
+        JsonFields.timestamp(out, fields, "paidAt", b.getPaidAt());
+        out.endObject();
+    }
+
+    @Override
+    public Bill read(JsonReader in) throws IOException {
+        Bill b = new Bill();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "billId":            b.setBillId(in.nextInt()); break;
+                case "reservationId":     b.setReservationId(in.nextInt()); break;
+                case "reservationNumber": b.setReservationNumber(JsonFields.nextString(in)); break;
+                case "guestName":         b.setGuestName(JsonFields.nextString(in)); break;
+                case "roomType":          b.setRoomType(JsonFields.nextString(in)); break;
+                case "roomNumber":        b.setRoomNumber(JsonFields.nextString(in)); break;
+                case "checkInDate":       b.setCheckInDate(JsonFields.nextDate(in)); break;
+                case "checkOutDate":      b.setCheckOutDate(JsonFields.nextDate(in)); break;
+                case "numberOfNights":    b.setNumberOfNights(in.nextInt()); break;
+                case "ratePerNight":      b.setRatePerNight(in.nextDouble()); break;
+                case "totalAmount":       b.setTotalAmount(in.nextDouble()); break;
+                case "billDate":          b.setBillDate(JsonFields.nextTimestamp(in)); break;
+                case "generatedBy":       b.setGeneratedBy(in.nextInt()); break;
+                case "paymentStatus":     b.setPaymentStatus(JsonFields.nextString(in)); break;
+                case "paymentMethod":     b.setPaymentMethod(JsonFields.nextString(in)); break;
+                case "paidAt":            b.setPaidAt(JsonFields.nextTimestamp(in)); break;
+                default:                  in.skipValue();
+            }
+        }
+        in.endObject();
+        return b;
+    }
+}
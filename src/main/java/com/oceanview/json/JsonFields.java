@@ -0,0 +1,87 @@
+package com.oceanview.json;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.oceanview.model.Projection;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * JsonFields - Read/write helpers shared by the model TypeAdapters
+ * Null values and fields outside the projection are skipped on write.
+ * Timestamps use an immutable java.time formatter, so no locking per value.
+ */
+final class JsonFields {
+
+    static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern(JsonSupport.TIMESTAMP_FORMAT);
+
+    private JsonFields() {
+    }
+
+    static void string(JsonWriter out, Projection fields, String name, String value) throws IOException {
+        if (value != null && fields.includes(name)) {
+            out.name(name).value(value);
+        }
+    }
+
+    static void number(JsonWriter out, Projection fields, String name, long value) throws IOException {
+        if (fields.includes(name)) {
+            out.name(name).value(value);
+        }
+    }
+
+    static void number(JsonWriter out, Projection fields, String name, double value) throws IOException {
+        if (fields.includes(name)) {
+            out.name(name).value(value);
+        }
+    }
+
+    static void bool(JsonWriter out, Projection fields, String name, boolean value) throws IOException {
+        if (fields.includes(name)) {
+            out.name(name).value(value);
+        }
+    }
+
+    static void date(JsonWriter out, Projection fields, String name, LocalDate value) throws IOException {
+        if (value != null && fields.includes(name)) {
+            out.name(name).value(value.toString());
+        }
+    }
+
+    static void timestamp(JsonWriter out, Projection fields, String name, Timestamp value) throws IOException {
+        if (value != null && fields.includes(name)) {
+            out.name(name).value(formatTimestamp(value));
+        }
+    }
+
+    static String formatTimestamp(Timestamp value) {
+        return TIMESTAMP.format(value.toLocalDateTime());
+    }
+
+    static Timestamp parseTimestamp(String value) {
+        return Timestamp.valueOf(LocalDateTime.parse(value, TIMESTAMP));
+    }
+
+    static String nextString(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+
+    static LocalDate nextDate(JsonReader in) throws IOException {
+        String value = nextString(in);
+        return value != null ? LocalDate.parse(value) : null;
+    }
+
+    static Timestamp nextTimestamp(JsonReader in) throws IOException {
+        String value = nextString(in);
+        return value != null ? parseTimestamp(value) : null;
+    }
+}
@@ -0,0 +1,67 @@
+package com.oceanview.json;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.oceanview.model.Bill;
+import com.oceanview.model.Projection;
+import com.oceanview.model.Reservation;
+import com.oceanview.model.Room;
+import com.oceanview.model.User;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * JsonSupport - Gson configuration shared by the API servlets
+ * Models are written by hand-written TypeAdapters instead of reflection,
+ * and dates by java.time formatters (java.time is also closed to
+ * reflection on Java 17).
+ */
+public final class JsonSupport {
+
+    public static final String TIMESTAMP_FORMAT = "yyyy-MM-dd HH:mm:ss";
+
+    // Projected Gson instances, keyed by Projection.key()
+    private static final int MAX_CACHED = 64;
+    private static final ConcurrentMap<String, Gson> PROJECTED = new ConcurrentHashMap<>();
+
+    private JsonSupport() {
+    }
+
+    /**
+     * A GsonBuilder with the model and date adapters registered
+     */
+    public static GsonBuilder gsonBuilder() {
+        return gsonBuilder(Projection.ALL);
+    }
+
+    /**
+     * A GsonBuilder whose model adapters write only the projected fields
+     */
+    public static GsonBuilder gsonBuilder(Projection fields) {
+        return new GsonBuilder()
+            .registerTypeAdapter(LocalDate.class, new LocalDateAdapter().nullSafe())
+            .registerTypeAdapter(Timestamp.class, new TimestampAdapter())
+            .registerTypeAdapter(Reservation.class, new ReservationAdapter(fields))
+            .registerTypeAdapter(Bill.class, new BillAdapter(fields))
+            .registerTypeAdapter(Room.class, new RoomAdapter(fields))
+            .registerTypeAdapter(User.class, new UserAdapter(fields));
+    }
+
+    /**
+     * Shared Gson for a projection. Clients tend to repeat the same
+     * ?fields= lists, so instances are cached up to MAX_CACHED projections.
+     */
+    public static Gson gson(Projection fields) {
+        Gson gson = PROJECTED.get(fields.key());
+        if (gson == null) {
+            gson = gsonBuilder(fields).create();
+            if (PROJECTED.size() < MAX_CACHED) {
+                PROJECTED.putIfAbsent(fields.key(), gson);
+            }
+        }
+        return gson;
+    }
+}
@@ -0,0 +1,107 @@
+package com.oceanview.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.oceanview.model.Projection;
+import com.oceanview.model.Reservation;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * ReservationAdapter - Hand-written JSON mapping for Reservation
+ * Same field names as reflective Gson, limited to the Projection if given.
+ * Null fields are skipped, and so is the display-only ratePerNight when the
+ * room join didn't fill it in.
+ */
+public class ReservationAdapter extends TypeAdapter<Reservation> {
+
+    /**
+     * Every field name this adapter can write, for validating ?fields=
+     */
+    public static final Set<String> FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(
+        "reservationId", "reservationNumber", "guestName", "address", "contactNumber",
+        "guestEmail", "roomId", "roomType", "checkInDate", "checkOutDate",
+        "numberOfNights", "totalCost", "status", "version", "createdBy", "createdAt", "updatedAt",
+        "roomNumber", "ratePerNight")));
+
+    private final Projection fields;
+
+    public ReservationAdapter() {
+        this(Projection.ALL);
+    }
+
+    /**
+     * Adapter that writes only the projected fields
+     */
+    public ReservationAdapter(Projection fields) {
+        this.fields = fields;
+    }
+
+    @Override
+    public void write(JsonWriter out, Reservation r) throws IOException {
+        if (r == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        JsonFields.number(out, fields, "reservationId", r.getReservationId());
+        JsonFields.string(out, fields, "reservationNumber", r.getReservationNumber());
+        JsonFields.string(out, fields, "guestName", r.getGuestName());
+        JsonFields.string(out, fields, "address", r.getAddress());
+        JsonFields.string(out, fields, "contactNumber", r.getContactNumber());
+        JsonFields.string(out, fields, "guestEmail", r.getGuestEmail());
+        JsonFields.number(out, fields, "roomId", r.getRoomId());
+        JsonFields.string(out, fields, "roomType", r.getRoomType());
+        JsonFields.date(out, fields, "checkInDate", r.getCheckInDate());
+        JsonFields.date(out, fields, "checkOutDate", r.getCheckOutDate());
+        JsonFields.number(out, fields, "numberOfNights", r.getNumberOfNights());
+        JsonFields.number(out, fields, "totalCost", r.getTotalCost());
+        JsonFields.string(out, fields, "status", r.getStatus());
+        JsonFields.number(out, fields, "version", r.getVersion());
+        JsonFields.number(out, fields, "createdBy", r.getCreatedBy());
+        JsonFields.timestamp(out, fields, "createdAt", r.getCreatedAt());
+        JsonFields.timestamp(out, fields, "updatedAt", r.getUpdatedAt());
+        JsonFields.string(out, fields, "roomNumber", r.getRoomNumber());
+        if (r.getRatePerNight() != 0) {
+            JsonFields.number(out, fields, "ratePerNight", r.getRatePerNight());
+        }
+        out.endObject();
+    }
+
+    @Override
+    public Reservation read(JsonReader in) throws IOException {
+        Reservation r = new Reservation();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "reservationId":     r.setReservationId(in.nextInt()); break;
+                case "reservationNumber": r.setReservationNumber(JsonFields.nextString(in)); break;
+                case "guestName":         r.setGuestName(JsonFields.nextString(in)); break;
+                case "address":           r.setAddress(JsonFields.nextString(in)); break;
+                case "contactNumber":     r.setContactNumber(JsonFields.nextString(in)); break;
+                case "guestEmail":        r.setGuestEmail(JsonFields.nextString(in)); break;
+                case "roomId":            r.setRoomId(in.nextInt()); break;
+                case "roomType":          r.setRoomType(JsonFields.nextString(in)); break;
+                case "checkInDate":       r.setCheckInDate(JsonFields.nextDate(in)); break;
+                case "checkOutDate":      r.setCheckOutDate(JsonFields.nextDate(in)); break;
+                case "numberOfNights":    r.setNumberOfNights(in.nextInt()); break;
+                case "totalCost":         r.setTotalCost(in.nextDouble()); break;
+                case "status":            r.setStatus(JsonFields.nextString(in)); break;
+                case "version":           r.setVersion(in.nextInt()); break;
+                case "createdBy":         r.setCreatedBy(in.nextInt()); break;
+                case "createdAt":         r.setCreatedAt(JsonFields.nextTimestamp(in)); break;
+                case "updatedAt":         r.setUpdatedAt(JsonFields.nextTimestamp(in)); break;
+                case "roomNumber":        r.setRoomNumber(JsonFields.nextString(in)); break;
+                case "ratePerNight":      r.setRatePerNight(in.nextDouble()); break;
+                default:                  in.skipValue();
+            }
+        }
+        in.endObject();
+        return r;
+    }
+}
@@ -0,0 +1,75 @@
+package com.oceanview.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.oceanview.model.Projection;
+import com.oceanview.model.Room;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * RoomAdapter - Hand-written JSON mapping for Room
+ * Same field names as reflective Gson, limited to the Projection if given.
+ * Null fields are skipped.
+ */
+public class RoomAdapter extends TypeAdapter<Room> {
+
+    /**
+     * Every field name this adapter can write, for validating ?fields=
+     */
+    public static final Set<String> FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(
+        "roomId", "roomNumber", "roomType", "ratePerNight", "status", "description")));
+
+    private final Projection fields;
+
+    public RoomAdapter() {
+        this(Projection.ALL);
+    }
+
+    /**
+     * Adapter that writes only the projected fields
+     */
+    public RoomAdapter(Projection fields) {
+        this.fields = fields;
+    }
+
+    @Override
+    public void write(JsonWriter out, Room room) throws IOException {
+        if (room == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        JsonFields.number(out, fields, "roomId", room.getRoomId());
+        JsonFields.string(out, fields, "roomNumber", room.getRoomNumber());
+        JsonFields.string(out, fields, "roomType", room.getRoomType());
+        JsonFields.number(out, fields, "ratePerNight", room.getRatePerNight());
+        JsonFields.string(out, fields, "status", room.getStatus());
+        JsonFields.string(out, fields, "description", room.getDescription());
+        out.endObject();
+    }
+
+    @Override
+    public Room read(JsonReader in) throws IOException {
+        Room room = new Room();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "roomId":       room.setRoomId(in.nextInt()); break;
+                case "roomNumber":   room.setRoomNumber(JsonFields.nextString(in)); break;
+                case "roomType":     room.setRoomType(JsonFields.nextString(in)); break;
+                case "ratePerNight": room.setRatePerNight(in.nextDouble()); break;
+                case "status":       room.setStatus(JsonFields.nextString(in)); break;
+                case "description":  room.setDescription(JsonFields.nextString(in)); break;
+                default:             in.skipValue();
+            }
+        }
+        in.endObject();
+        return room;
+    }
+}
@@ -0,0 +1,30 @@
+package com.oceanview.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+
+/**
+ * TimestampAdapter - Writes Timestamp as "yyyy-MM-dd HH:mm:ss"
+ * Replaces GsonBuilder.setDateFormat, whose DateFormat is synchronized
+ * on every value.
+ */
+public class TimestampAdapter extends TypeAdapter<Timestamp> {
+
+    @Override
+    public void write(JsonWriter out, Timestamp value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+        } else {
+            out.value(JsonFields.formatTimestamp(value));
+        }
+    }
+
+    @Override
+    public Timestamp read(JsonReader in) throws IOException {
+        return JsonFields.nextTimestamp(in);
+    }
+}
@@ -0,0 +1,74 @@
+package com.oceanview.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.oceanview.model.Projection;
+import com.oceanview.model.User;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * UserAdapter - Hand-written JSON mapping for User
+ * The password hash is never written, and is ignored if sent.
+ */
+public class UserAdapter extends TypeAdapter<User> {
+
+    /**
+     * Every field name this adapter can write, for validating ?fields=
+     */
+    public static final Set<String> FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(
+        "userId", "username", "fullName", "role", "createdAt", "firstLogin")));
+
+    private final Projection fields;
+
+    public UserAdapter() {
+        this(Projection.ALL);
+    }
+
+    /**
+     * Adapter that writes only the projected fields
+     */
+    public UserAdapter(Projection fields) {
+        this.fields = fields;
+    }
+
+    @Override
+    public void write(JsonWriter out, User user) throws IOException {
+        if (user == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        JsonFields.number(out, fields, "userId", user.getUserId());
+        JsonFields.string(out, fields, "username", user.getUsername());
+        JsonFields.string(out, fields, "fullName", user.getFullName());
+        JsonFields.string(out, fields, "role", user.getRole());
+        JsonFields.timestamp(out, fields, "createdAt", user.getCreatedAt());
+        JsonFields.bool(out, fields, "firstLogin", user.isFirstLogin());
+        out.endObject();
+    }
+
+    @Override
+    public User read(JsonReader in) throws IOException {
+        User user = new User();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "userId":     user.setUserId(in.nextInt()); break;
+                case "username":   user.setUsername(JsonFields.nextString(in)); break;
+                case "fullName":   user.setFullName(JsonFields.nextString(in)); break;
+                case "role":       user.setRole(JsonFields.nextString(in)); break;
+                case "createdAt":  user.setCreatedAt(JsonFields.nextTimestamp(in)); break;
+                case "firstLogin": user.setFirstLogin(in.nextBoolean()); break;
+                default:           in.skipValue();
+            }
+        }
+        in.endObject();
+        return user;
+    }
+}
@@ -1,6 +1,14 @@
 package com.oceanview.listener;
 
 import com.oceanview.dao.DBConnection;
+import com.oceanview.dao.EmailLogAppender;
+import com.oceanview.dao.ReservationNumberAllocator;
+import com.oceanview.service.AvailabilityIndex;
+import com.oceanview.service.BookingLocks;
+import com.oceanview.service.CounterReconciliationJob;
+import com.oceanview.service.DashboardUpdates;
+import com.oceanview.service.EmailOutbox;
+import com.oceanview.service.ReportAssembler;
 
 import javax.servlet.ServletContextEvent;
 import javax.servlet.ServletContextListener;
@@ -8,13 +16,13 @@ import javax.servlet.annotation.WebListener;
 import java.sql.Connection;
 import java.sql.SQLException;
 
-/** Observer pattern listener that initializes Singleton DB on startup and logs cleanup on shutdown. */
+/** Observer pattern listener that starts the Singleton DB pool on startup and closes it on shutdown. */
 @WebListener
 public class AppContextListener implements ServletContextListener {
 
     /**
      * Called when the application starts
-     * Initializes the Singleton database connection
+     * Starts the Singleton database connection pool
      */
     @Override
     public void contextInitialized(ServletContextEvent sce) {
@@ -23,15 +31,16 @@ public class AppContextListener implements ServletContextListener {
         System.out.println("  Galle, Sri Lanka");
         System.out.println("==============================================");
 
-        // Initialize Singleton database connection
-        try {
-            DBConnection dbConnection = DBConnection.getInstance();
-            Connection conn = dbConnection.getConnection();
+        // Start Singleton database connection pool
+        DBConnection dbConnection = DBConnection.getInstance();
+        dbConnection.start();
+        try (Connection conn = dbConnection.getConnection()) {
 
             if (conn != null && !conn.isClosed()) {
-                System.out.println("[SUCCESS] Database connection established successfully.");
-                System.out.println("[INFO] Connected to: oceanview_resort database");
-                conn.close();
+                System.out.println("[SUCCESS] Database connection pool started successfully.");
+                System.out.println("[INFO] Connected to: oceanview_resort database ("
+                    + dbConnection.getOpenConnectionCount() + " open, max "
+                    + dbConnection.getMaxPoolSize() + ")");
             } else {
                 System.out.println("[ERROR] Failed to establish database connection.");
             }
@@ -39,6 +48,25 @@ public class AppContextListener implements ServletContextListener {
             System.err.println("[ERROR] Database connection error: " + e.getMessage());
         }
 
+        // Load Confirmed stays into the in-memory availability index.
+        // It only sees this node's writes, so with several nodes it stays off.
+        if (BookingLocks.isMultiNode()) {
+            System.out.println("[INFO] Multi-node booking lock - availability index off, "
+                + "using SQL overlap checks.");
+        } else if (!AvailabilityIndex.getInstance().reload()) {
+            System.out.println("[WARN] Availability index not loaded - using SQL overlap checks.");
+        }
+
+        // Reserve the first block of reservation numbers ahead of the first booking
+        ReservationNumberAllocator.getInstance().start();
+
+        // Rebuild the dashboard counters now and hourly from the base tables
+        CounterReconciliationJob.getInstance().start();
+
+        // Background email delivery (resumes anything left PENDING)
+        EmailLogAppender.getInstance().start();
+        EmailOutbox.getInstance().start();
+
         // Store application-wide attributes
         sce.getServletContext().setAttribute("appName", "Ocean View Resort");
         sce.getServletContext().setAttribute("appVersion", "1.0.0");
@@ -58,6 +86,16 @@ public class AppContextListener implements ServletContextListener {
         System.out.println("==============================================");
         System.out.println("  Ocean View Resort - System Shutting Down");
         System.out.println("==============================================");
+
+        DashboardUpdates.getInstance().stop();
+        ReportAssembler.getInstance().stop();
+        EmailOutbox.getInstance().stop();
+        // Write buffered email log rows while the pool is still open
+        EmailLogAppender.getInstance().stop();
+        CounterReconciliationJob.getInstance().stop();
+        ReservationNumberAllocator.getInstance().stop();
+        DBConnection.getInstance().shutdown();
+        System.out.println("[INFO] Database connection pool closed.");
         System.out.println("[INFO] All resources cleaned up successfully.");
         System.out.println("[INFO] Goodbye!");
         System.out.println("==============================================");
@@ -0,0 +1,40 @@
+package com.oceanview.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * EndpointStats - Request count, error count and latency for one endpoint
+ */
+public class EndpointStats {
+
+    private final String key;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String key) {
+        this.key = key;
+    }
+
+    public void record(long nanos, boolean error) {
+        latency.recordNanos(nanos);
+        if (error) {
+            errors.increment();
+        }
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public long getRequestCount() {
+        return latency.getCount();
+    }
+
+    public long getErrorCount() {
+        return errors.sum();
+    }
+}
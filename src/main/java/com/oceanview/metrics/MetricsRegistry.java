@@ -0,0 +1,66 @@
+package com.oceanview.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * MetricsRegistry - Per-endpoint request statistics (Singleton)
+ * Keys are the request path plus the action parameter, e.g.
+ * "/reservation?action=add". The number of keys is capped so that
+ * made-up paths or actions can't grow the map without bound; once full,
+ * new keys are counted under OTHER_KEY.
+ */
+public class MetricsRegistry {
+
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    static final int MAX_ENDPOINTS = 200;
+    public static final String OTHER_KEY = "other";
+
+    private final ConcurrentMap<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final long startedAt = System.currentTimeMillis();
+
+    MetricsRegistry() {
+    }
+
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Record one finished request
+     */
+    public void record(String key, long nanos, boolean error) {
+        endpoint(key).record(nanos, error);
+    }
+
+    public EndpointStats endpoint(String key) {
+        EndpointStats stats = endpoints.get(key);
+        if (stats != null) {
+            return stats;
+        }
+        if (endpoints.size() >= MAX_ENDPOINTS) {
+            key = OTHER_KEY;
+        }
+        return endpoints.computeIfAbsent(key, EndpointStats::new);
+    }
+
+    /**
+     * All endpoints seen so far, sorted by key
+     */
+    public List<EndpointStats> getEndpoints() {
+        List<EndpointStats> list = new ArrayList<>(endpoints.values());
+        list.sort(Comparator.comparing(EndpointStats::getKey));
+        return list;
+    }
+
+    /**
+     * Milliseconds since the registry was created, for throughput
+     */
+    public long getUptimeMillis() {
+        return System.currentTimeMillis() - startedAt;
+    }
+}
@@ -1,6 +1,7 @@
 package com.oceanview.model;
 
 import java.sql.Timestamp;
+import java.time.LocalDate;
 
 /**
  * Bill Model - Represents generated bills for reservations
@@ -14,8 +15,8 @@ public class Bill {
     private String guestName;
     private String roomType;
     private String roomNumber;
-    private String checkInDate;
-    private String checkOutDate;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
     private int numberOfNights;
     private double ratePerNight;
     private double totalAmount;
@@ -49,11 +50,11 @@ public class Bill {
     public String getRoomNumber() { return roomNumber; }
     public void setRoomNumber(String roomNumber) { this.roomNumber = roomNumber; }
 
-    public String getCheckInDate() { return checkInDate; }
-    public void setCheckInDate(String checkInDate) { this.checkInDate = checkInDate; }
+    public LocalDate getCheckInDate() { return checkInDate; }
+    public void setCheckInDate(LocalDate checkInDate) { this.checkInDate = checkInDate; }
 
-    public String getCheckOutDate() { return checkOutDate; }
-    public void setCheckOutDate(String checkOutDate) { this.checkOutDate = checkOutDate; }
+    public LocalDate getCheckOutDate() { return checkOutDate; }
+    public void setCheckOutDate(LocalDate checkOutDate) { this.checkOutDate = checkOutDate; }
 
     public int getNumberOfNights() { return numberOfNights; }
     public void setNumberOfNights(int numberOfNights) { this.numberOfNights = numberOfNights; }
@@ -0,0 +1,123 @@
+package com.oceanview.model;
+
+/**
+ * DashboardStats Model - Snapshot of the hotel-wide counters
+ * Shown on the dashboard, the reports page and /api/dashboard
+ */
+public class DashboardStats {
+
+    private int totalRooms;
+    private int occupiedRooms;
+    private int singleAvail;
+    private int doubleAvail;
+    private int deluxeAvail;
+    private int suiteAvail;
+    private int totalReservations;
+    private int activeReservations;
+    private double totalRevenue;
+    private int totalBills;
+
+    // Default Constructor
+    public DashboardStats() {
+    }
+
+    // Getters and Setters
+    public int getTotalRooms() {
+        return totalRooms;
+    }
+
+    public void setTotalRooms(int totalRooms) {
+        this.totalRooms = totalRooms;
+    }
+
+    public int getOccupiedRooms() {
+        return occupiedRooms;
+    }
+
+    public void setOccupiedRooms(int occupiedRooms) {
+        this.occupiedRooms = occupiedRooms;
+    }
+
+    public int getAvailableRooms() {
+        return totalRooms - occupiedRooms;
+    }
+
+    public double getOccupancyRate() {
+        return totalRooms > 0 ? ((double) occupiedRooms / totalRooms) * 100 : 0;
+    }
+
+    public int getSingleAvail() {
+        return singleAvail;
+    }
+
+    public void setSingleAvail(int singleAvail) {
+        this.singleAvail = singleAvail;
+    }
+
+    public int getDoubleAvail() {
+        return doubleAvail;
+    }
+
+    public void setDoubleAvail(int doubleAvail) {
+        this.doubleAvail = doubleAvail;
+    }
+
+    public int getDeluxeAvail() {
+        return deluxeAvail;
+    }
+
+    public void setDeluxeAvail(int deluxeAvail) {
+        this.deluxeAvail = deluxeAvail;
+    }
+
+    public int getSuiteAvail() {
+        return suiteAvail;
+    }
+
+    public void setSuiteAvail(int suiteAvail) {
+        this.suiteAvail = suiteAvail;
+    }
+
+    public int getTotalAvailableByType() {
+        return singleAvail + doubleAvail + deluxeAvail + suiteAvail;
+    }
+
+    public int getTotalReservations() {
+        return totalReservations;
+    }
+
+    public void setTotalReservations(int totalReservations) {
+        this.totalReservations = totalReservations;
+    }
+
+    public int getActiveReservations() {
+        return activeReservations;
+    }
+
+    public void setActiveReservations(int activeReservations) {
+        this.activeReservations = activeReservations;
+    }
+
+    public double getTotalRevenue() {
+        return totalRevenue;
+    }
+
+    public void setTotalRevenue(double totalRevenue) {
+        this.totalRevenue = totalRevenue;
+    }
+
+    public int getTotalBills() {
+        return totalBills;
+    }
+
+    public void setTotalBills(int totalBills) {
+        this.totalBills = totalBills;
+    }
+
+    @Override
+    public String toString() {
+        return "DashboardStats [totalRooms=" + totalRooms + ", occupiedRooms=" + occupiedRooms
+                + ", totalReservations=" + totalReservations + ", activeReservations=" + activeReservations
+                + ", totalRevenue=" + totalRevenue + ", totalBills=" + totalBills + "]";
+    }
+}
@@ -0,0 +1,69 @@
+package com.oceanview.model;
+
+import java.sql.Timestamp;
+
+/**
+ * EmailLog Model - One email delivery outcome
+ * Maps to 'email_logs' table in database
+ */
+public class EmailLog {
+
+    private String recipient;
+    private String subject;
+    private String message;
+    private String status;
+    private Timestamp sentAt;
+
+    // Default Constructor
+    public EmailLog() {
+    }
+
+    public EmailLog(String recipient, String subject, String message, String status) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.message = message;
+        this.status = status;
+        this.sentAt = new Timestamp(System.currentTimeMillis());
+    }
+
+    // Getters and Setters
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public void setRecipient(String recipient) {
+        this.recipient = recipient;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Timestamp getSentAt() {
+        return sentAt;
+    }
+
+    public void setSentAt(Timestamp sentAt) {
+        this.sentAt = sentAt;
+    }
+}
@@ -0,0 +1,65 @@
+package com.oceanview.model;
+
+/**
+ * EmailMessage Model - One queued outgoing email
+ * Maps to 'email_outbox' table in database
+ */
+public class EmailMessage {
+
+    private long outboxId;
+    private String recipient;
+    private String subject;
+    private String body;
+    private int attempts;
+
+    // Default Constructor
+    public EmailMessage() {
+    }
+
+    public EmailMessage(String recipient, String subject, String body) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+    }
+
+    // Getters and Setters
+    public long getOutboxId() {
+        return outboxId;
+    }
+
+    public void setOutboxId(long outboxId) {
+        this.outboxId = outboxId;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public void setRecipient(String recipient) {
+        this.recipient = recipient;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public void setBody(String body) {
+        this.body = body;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+}
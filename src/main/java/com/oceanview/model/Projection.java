@@ -0,0 +1,83 @@
+package com.oceanview.model;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Projection - The fields a client asked for with ?fields=a,b,c
+ * Drives both the columns a DAO selects and the fields a JSON adapter
+ * writes. ALL (no fields parameter) keeps every field.
+ */
+public final class Projection {
+
+    public static final Projection ALL = new Projection(null);
+
+    private final Set<String> fields;
+
+    private Projection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Parse a comma-separated fields parameter against the allowed names.
+     * A missing or blank parameter means ALL.
+     * Throws IllegalArgumentException for a name that is not allowed.
+     */
+    public static Projection parse(String param, Set<String> allowed) {
+        if (param == null || param.trim().isEmpty()) {
+            return ALL;
+        }
+        Set<String> fields = new TreeSet<>();
+        for (String name : param.split(",")) {
+            name = name.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new IllegalArgumentException("Unknown field: " + name);
+            }
+            fields.add(name);
+        }
+        return fields.isEmpty() ? ALL : new Projection(Collections.unmodifiableSet(fields));
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    /**
+     * True if any of the given fields is included
+     */
+    public boolean includesAny(String... names) {
+        for (String name : names) {
+            if (includes(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The selected fields in sorted order, or null for ALL
+     */
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * Canonical form, e.g. "guestName,status", or "*" for ALL
+     */
+    public String key() {
+        return fields == null ? "*" : String.join(",", fields);
+    }
+
+    @Override
+    public String toString() {
+        return "Projection [" + key() + "]";
+    }
+}
@@ -1,6 +1,7 @@
 package com.oceanview.model;
 
 import java.sql.Timestamp;
+import java.time.LocalDate;
 
 /**
  * Reservation Model - Represents guest room bookings
@@ -16,11 +17,12 @@ public class Reservation {
 private String guestEmail;
 private int roomId;
     private String roomType;
-    private String checkInDate;
-    private String checkOutDate;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
     private int numberOfNights;
     private double totalCost;
     private String status;
+    private int version;
     private int createdBy;
     private Timestamp createdAt;
     private Timestamp updatedAt;
@@ -35,7 +37,7 @@ private int roomId;
 
     // Constructor for creating new reservation
     public Reservation(String guestName, String address, String contactNumber,
-                       int roomId, String roomType, String checkInDate, String checkOutDate, int createdBy) {
+                       int roomId, String roomType, LocalDate checkInDate, LocalDate checkOutDate, int createdBy) {
         this.guestName = guestName;
         this.address = address;
         this.contactNumber = contactNumber;
@@ -111,19 +113,19 @@ private int roomId;
         this.roomType = roomType;
     }
 
-    public String getCheckInDate() {
+    public LocalDate getCheckInDate() {
         return checkInDate;
     }
 
-    public void setCheckInDate(String checkInDate) {
+    public void setCheckInDate(LocalDate checkInDate) {
         this.checkInDate = checkInDate;
     }
 
-    public String getCheckOutDate() {
+    public LocalDate getCheckOutDate() {
         return checkOutDate;
     }
 
-    public void setCheckOutDate(String checkOutDate) {
+    public void setCheckOutDate(LocalDate checkOutDate) {
         this.checkOutDate = checkOutDate;
     }
 
@@ -151,6 +153,17 @@ private int roomId;
         this.status = status;
     }
 
+    /**
+     * Bumped on every status change; used to detect concurrent updates
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
     public int getCreatedBy() {
         return createdBy;
     }
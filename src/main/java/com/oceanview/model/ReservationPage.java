@@ -0,0 +1,55 @@
+package com.oceanview.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ReservationPage Model - One page of the reservation listing, newest first
+ * nextCursor is passed back as ?after= to fetch the following page and is
+ * null on the last page.
+ */
+public class ReservationPage {
+
+    private List<Reservation> reservations = new ArrayList<>();
+    private String nextCursor;
+    private int limit;
+
+    // Default Constructor
+    public ReservationPage() {
+    }
+
+    public ReservationPage(List<Reservation> reservations, String nextCursor, int limit) {
+        this.reservations = reservations;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    // Getters and Setters
+    public List<Reservation> getReservations() {
+        return reservations;
+    }
+
+    public void setReservations(List<Reservation> reservations) {
+        this.reservations = reservations;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public boolean isHasMore() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,242 @@
+package com.oceanview.service;
+
+import com.oceanview.dao.DAOFactory;
+import com.oceanview.model.Reservation;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * AvailabilityIndex - In-memory calendar of Confirmed stays per room (Singleton)
+ * Each room has a day bitset where bit N means "night N is booked", so an
+ * overlap check is one nextSetBit() call instead of a query on reservations.
+ *
+ * Loaded from the database on startup and kept current by ReservationService
+ * on every booking, cancel and checkout. The locked check inside the booking
+ * transaction is still the final word; this index answers searches and
+ * rejects obvious clashes before a transaction is opened.
+ *
+ * Not loaded when oceanview.booking.lock=mysql: other nodes' bookings and
+ * cancellations never reach this JVM, so every lookup falls back to SQL.
+ */
+public class AvailabilityIndex {
+
+    private static final AvailabilityIndex INSTANCE = new AvailabilityIndex();
+
+    // Night 0 of every calendar; nights before this are never searched
+    private static final long BASE_DAY = LocalDate.of(2020, 1, 1).toEpochDay();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Integer, BitSet> calendars = new HashMap<>();
+    private Map<Integer, List<Stay>> staysByRoom = new HashMap<>();
+    private Map<Integer, Stay> staysById = new HashMap<>();
+    private volatile boolean loaded;
+
+    AvailabilityIndex() {
+    }
+
+    public static AvailabilityIndex getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Rebuild the index from the Confirmed stays in the database.
+     * Leaves the index unloaded (callers fall back to SQL) if the query fails.
+     */
+    public boolean reload() {
+        List<Reservation> confirmed = DAOFactory.createReservationDAO().getConfirmedStays();
+        if (confirmed == null) {
+            return false;
+        }
+        load(confirmed);
+        return true;
+    }
+
+    /**
+     * Replace the index contents with the given Confirmed stays
+     */
+    public void load(List<Reservation> confirmed) {
+        Map<Integer, BitSet> newCalendars = new HashMap<>();
+        Map<Integer, List<Stay>> newByRoom = new HashMap<>();
+        Map<Integer, Stay> newById = new HashMap<>();
+
+        for (Reservation r : confirmed) {
+            Stay stay = toStay(r.getReservationId(), r.getRoomId(),
+                r.getCheckInDate(), r.getCheckOutDate());
+            if (stay != null) {
+                newById.put(stay.reservationId, stay);
+                newByRoom.computeIfAbsent(stay.roomId, k -> new ArrayList<>()).add(stay);
+                mark(newCalendars.computeIfAbsent(stay.roomId, k -> new BitSet()), stay);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            calendars = newCalendars;
+            staysByRoom = newByRoom;
+            staysById = newById;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        System.out.println("[INFO] Availability index loaded: " + newById.size()
+            + " confirmed stays in " + newCalendars.size() + " rooms");
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Forget everything; lookups fall back to SQL until the next reload()
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            calendars = new HashMap<>();
+            staysByRoom = new HashMap<>();
+            staysById = new HashMap<>();
+            loaded = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * True if no Confirmed stay in the room covers any night from checkIn
+     * up to (not including) checkOut
+     */
+    public boolean isAvailable(int roomId, LocalDate checkIn, LocalDate checkOut) {
+        int from = nightIndex(checkIn);
+        int to = nightIndex(checkOut);
+        if (from == Integer.MIN_VALUE || to == Integer.MIN_VALUE) {
+            return false;
+        }
+        from = Math.max(from, 0);
+        if (to <= from) {
+            return true;
+        }
+
+        lock.readLock().lock();
+        try {
+            BitSet nights = calendars.get(roomId);
+            if (nights == null) {
+                return true;
+            }
+            int booked = nights.nextSetBit(from);
+            return booked < 0 || booked >= to;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Record a newly Confirmed stay
+     */
+    public void addStay(int reservationId, int roomId, LocalDate checkIn, LocalDate checkOut) {
+        Stay stay = toStay(reservationId, roomId, checkIn, checkOut);
+        if (stay == null || reservationId <= 0 || !loaded) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Stay previous = staysById.put(reservationId, stay);
+            if (previous != null) {
+                staysByRoom.get(previous.roomId).remove(previous);
+                rebuild(previous.roomId);
+            }
+            staysByRoom.computeIfAbsent(roomId, k -> new ArrayList<>()).add(stay);
+            mark(calendars.computeIfAbsent(roomId, k -> new BitSet()), stay);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop a stay that was cancelled or checked out
+     */
+    public void removeStay(int reservationId) {
+        if (!loaded) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Stay stay = staysById.remove(reservationId);
+            if (stay != null) {
+                staysByRoom.get(stay.roomId).remove(stay);
+                rebuild(stay.roomId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int getStayCount() {
+        lock.readLock().lock();
+        try {
+            return staysById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Recompute a room's calendar from its remaining stays, so clearing one
+     * stay never clears nights that another (legacy, overlapping) stay holds
+     */
+    private void rebuild(int roomId) {
+        BitSet nights = new BitSet();
+        for (Stay stay : staysByRoom.getOrDefault(roomId, new ArrayList<>())) {
+            mark(nights, stay);
+        }
+        calendars.put(roomId, nights);
+    }
+
+    private static void mark(BitSet nights, Stay stay) {
+        int from = Math.max(stay.firstNight, 0);
+        if (stay.endNight > from) {
+            nights.set(from, stay.endNight);
+        }
+    }
+
+    private static Stay toStay(int reservationId, int roomId, LocalDate checkIn, LocalDate checkOut) {
+        int first = nightIndex(checkIn);
+        int end = nightIndex(checkOut);
+        if (first == Integer.MIN_VALUE || end == Integer.MIN_VALUE || end <= first) {
+            return null;
+        }
+        return new Stay(reservationId, roomId, first, end);
+    }
+
+    /**
+     * Bit position of a date, or Integer.MIN_VALUE if there is no date
+     */
+    private static int nightIndex(LocalDate date) {
+        if (date == null) {
+            return Integer.MIN_VALUE;
+        }
+        return (int) (date.toEpochDay() - BASE_DAY);
+    }
+
+    private static final class Stay {
+        final int reservationId;
+        final int roomId;
+        final int firstNight;
+        final int endNight;
+
+        Stay(int reservationId, int roomId, int firstNight, int endNight) {
+            this.reservationId = reservationId;
+            this.roomId = roomId;
+            this.firstNight = firstNight;
+            this.endNight = endNight;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.oceanview.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BookingLatency - Per-stage timing for the booking pipeline
+ * One instance times a single createReservation call; the stage totals
+ * across all bookings are kept in static counters for reporting.
+ */
+public class BookingLatency {
+
+    /**
+     * Stages of ReservationService.createReservation, in order
+     */
+    public enum Stage {
+        VALIDATE, PRECHECK, ROOM_LOCK, LOCK_AND_CHECK, NUMBER, INSERT, COMMIT
+    }
+
+    private static final int STAGE_COUNT = Stage.values().length;
+    private static final LongAdder[] COUNTS = new LongAdder[STAGE_COUNT];
+    private static final LongAdder[] TOTAL_NANOS = new LongAdder[STAGE_COUNT];
+    private static final AtomicLong[] MAX_NANOS = new AtomicLong[STAGE_COUNT];
+
+    static {
+        for (int i = 0; i < STAGE_COUNT; i++) {
+            COUNTS[i] = new LongAdder();
+            TOTAL_NANOS[i] = new LongAdder();
+            MAX_NANOS[i] = new AtomicLong();
+        }
+    }
+
+    private final long started = System.nanoTime();
+    private final long[] stageNanos = new long[STAGE_COUNT];
+    private long lastMark = started;
+
+    /**
+     * Record that a stage has just finished
+     */
+    public void mark(Stage stage) {
+        long now = System.nanoTime();
+        long elapsed = now - lastMark;
+        lastMark = now;
+
+        int i = stage.ordinal();
+        stageNanos[i] += elapsed;
+        COUNTS[i].increment();
+        TOTAL_NANOS[i].add(elapsed);
+        MAX_NANOS[i].accumulateAndGet(elapsed, Math::max);
+    }
+
+    /**
+     * Log one line with the time spent in each stage of this booking
+     */
+    public void log(int roomId, String outcome) {
+        StringBuilder sb = new StringBuilder("[BOOKING] room=").append(roomId)
+            .append(" outcome=").append(outcome);
+        for (Stage stage : Stage.values()) {
+            long nanos = stageNanos[stage.ordinal()];
+            if (nanos > 0) {
+                sb.append(' ').append(stage.name().toLowerCase())
+                  .append('=').append(formatMillis(nanos)).append("ms");
+            }
+        }
+        sb.append(" total=").append(formatMillis(System.nanoTime() - started)).append("ms");
+        System.out.println(sb);
+    }
+
+    /**
+     * Count, average and max milliseconds per stage across all bookings
+     */
+    public static Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> stages = new LinkedHashMap<>();
+        for (Stage stage : Stage.values()) {
+            int i = stage.ordinal();
+            long count = COUNTS[i].sum();
+            Map<String, Object> s = new LinkedHashMap<>();
+            s.put("count", count);
+            s.put("avgMs", count > 0 ? TOTAL_NANOS[i].sum() / count / 1_000_000.0 : 0.0);
+            s.put("maxMs", MAX_NANOS[i].get() / 1_000_000.0);
+            stages.put(stage.name().toLowerCase(), s);
+        }
+        return stages;
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+}
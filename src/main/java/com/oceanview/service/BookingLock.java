@@ -0,0 +1,34 @@
+package com.oceanview.service;
+
+import java.util.Map;
+
+/**
+ * BookingLock - Mutual exclusion for bookings on one room
+ * ReservationService holds the room's lock while it checks availability and
+ * writes, so two bookings for the same room never run side by side.
+ * Status changes don't need it - they compare-and-set on the version.
+ *
+ * RoomLockManager only covers one JVM; DatabaseBookingLock also covers every
+ * node sharing the database. BookingLocks picks one from configuration.
+ */
+public interface BookingLock {
+
+    /**
+     * Lock the room, waiting at most the configured timeout.
+     * Returns the held lock, or null if it could not be taken in time.
+     */
+    Held lock(int roomId);
+
+    /**
+     * Acquisition and wait counters for monitoring
+     */
+    Map<String, Object> getStats();
+
+    /**
+     * A held room lock; close() releases it
+     */
+    interface Held extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,39 @@
+package com.oceanview.service;
+
+/**
+ * BookingLocks - The BookingLock used by ReservationService
+ * Chosen once from the oceanview.booking.lock system property:
+ * "local" (default) for a single node, "mysql" when several nodes
+ * share the database.
+ */
+public final class BookingLocks {
+
+    private static final BookingLock CONFIGURED =
+        create(System.getProperty("oceanview.booking.lock", "local"));
+
+    private BookingLocks() {
+    }
+
+    public static BookingLock get() {
+        return CONFIGURED;
+    }
+
+    /**
+     * True when bookings may also be made on other nodes. Per-node caches of
+     * bookings (AvailabilityIndex) would go stale and must not be used.
+     */
+    public static boolean isMultiNode() {
+        return CONFIGURED instanceof DatabaseBookingLock;
+    }
+
+    static BookingLock create(String type) {
+        if ("mysql".equalsIgnoreCase(type)) {
+            System.out.println("[INFO] Booking lock: MySQL advisory locks");
+            return new DatabaseBookingLock(RoomLockManager.getInstance());
+        }
+        if (!"local".equalsIgnoreCase(type)) {
+            System.err.println("[WARN] Unknown oceanview.booking.lock '" + type + "', using local");
+        }
+        return RoomLockManager.getInstance();
+    }
+}
@@ -0,0 +1,84 @@
+package com.oceanview.service;
+
+import com.oceanview.dao.CounterDAO;
+import com.oceanview.dao.DAOFactory;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CounterReconciliationJob - Periodically rebuilds stats_counters from the base tables (Singleton)
+ * The triggers keep the counters exact in normal operation; this job repairs
+ * any drift from manual edits or restores. Runs once at startup, then hourly.
+ * Writes to a counter wait while that counter is recounted (see
+ * CounterDAO.reconcile()).
+ */
+public class CounterReconciliationJob {
+
+    private static final CounterReconciliationJob INSTANCE = new CounterReconciliationJob();
+
+    private static final long INTERVAL_MINUTES = 60;
+
+    protected CounterDAO counterDAO;
+    private ScheduledExecutorService scheduler;
+
+    protected CounterReconciliationJob() {
+        this.counterDAO = DAOFactory.createCounterDAO();
+    }
+
+    public static CounterReconciliationJob getInstance() {
+        return INSTANCE;
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "counter-reconciliation");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(this::runOnce, 0, INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Rebuild the counters now. Returns the number of counters that had drifted,
+     * or -1 if the rebuild failed.
+     */
+    public int runOnce() {
+        try {
+            // Both read inside the rebuild, so bookings made since don't count as drift
+            CounterDAO.Reconciliation result = counterDAO.reconcile();
+            Map<String, Double> before = result.getLocked();
+
+            int drifted = 0;
+            for (Map.Entry<String, Double> counter : result.getRecounted().entrySet()) {
+                Double old = before.get(counter.getKey());
+                if (old == null || Math.abs(old - counter.getValue()) > 0.005) {
+                    drifted++;
+                    System.out.println("[WARN] Counter " + counter.getKey() + " drifted: "
+                        + old + " -> " + counter.getValue());
+                }
+            }
+            if (drifted > 0) {
+                DashboardStatsService.getInstance().invalidate();
+            }
+            System.out.println("[INFO] Stats counters reconciled (" + drifted + " corrected).");
+            return drifted;
+        } catch (SQLException | RuntimeException e) {
+            System.err.println("[ERROR] Counter reconciliation failed: " + e.getMessage());
+            return -1;
+        }
+    }
+}
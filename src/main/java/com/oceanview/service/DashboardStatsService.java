@@ -0,0 +1,107 @@
+package com.oceanview.service;
+
+import com.oceanview.dao.DAOFactory;
+import com.oceanview.dao.DashboardDAO;
+import com.oceanview.model.DashboardStats;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DashboardStatsService - Shared, short-lived snapshot of the dashboard counters (Singleton)
+ * The dashboard page, the reports page and /api/dashboard all read the same
+ * snapshot, so any number of open dashboards cost at most one query per
+ * TTL_MS. ReservationService calls invalidate() after bookings, status
+ * changes and bills so the next read sees the write straight away, and
+ * live dashboards get the new numbers pushed through DashboardUpdates.
+ */
+public class DashboardStatsService {
+
+    private static final DashboardStatsService INSTANCE = new DashboardStatsService();
+
+    private static final long TTL_MS = 10 * 1000;
+    // After a failed refresh, callers get the last good snapshot until this has passed
+    private static final long RETRY_BACKOFF_MS = 2 * 1000;
+
+    private final Object refreshLock = new Object();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+    private volatile long failedAt;
+
+    protected DashboardDAO dashboardDAO;
+
+    protected DashboardStatsService() {
+        this.dashboardDAO = DAOFactory.createDashboardDAO();
+    }
+
+    public static DashboardStatsService getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Current statistics, refreshed with one query once the snapshot is older than TTL_MS.
+     * All zeros if they have never been loaded.
+     */
+    public DashboardStats getStats() {
+        DashboardStats stats = findStats();
+        return stats != null ? stats : new DashboardStats();
+    }
+
+    /**
+     * Like getStats(), but null if the statistics could not be loaded
+     */
+    public DashboardStats findStats() {
+        Snapshot current = snapshot;
+        if (isFresh(current) || isBackingOff()) {
+            return current != null ? current.stats : null;
+        }
+
+        synchronized (refreshLock) {
+            // Callers that queued behind a failed refresh don't each retry it
+            current = snapshot;
+            if (isFresh(current) || isBackingOff()) {
+                return current != null ? current.stats : null;
+            }
+
+            // Read before the query: an invalidate() while it runs leaves the result stale
+            long loadGeneration = generation.get();
+            DashboardStats fresh = dashboardDAO.getDashboardStats();
+            if (fresh == null) {
+                // Keep showing the last good numbers if the database hiccups
+                failedAt = System.currentTimeMillis();
+                return current != null ? current.stats : null;
+            }
+            failedAt = 0;
+            snapshot = new Snapshot(fresh, loadGeneration);
+            return fresh;
+        }
+    }
+
+    /**
+     * Mark the snapshot stale after a write that changes any of the counters.
+     * It is kept as the last good numbers in case the next refresh fails.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        DashboardUpdates.getInstance().changed();
+    }
+
+    private boolean isBackingOff() {
+        return System.currentTimeMillis() - failedAt < RETRY_BACKOFF_MS;
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return current != null && current.generation == generation.get()
+            && System.currentTimeMillis() - current.loadedAt < TTL_MS;
+    }
+
+    private static final class Snapshot {
+        final DashboardStats stats;
+        final long generation;
+        final long loadedAt = System.currentTimeMillis();
+
+        Snapshot(DashboardStats stats, long generation) {
+            this.stats = stats;
+            this.generation = generation;
+        }
+    }
+}
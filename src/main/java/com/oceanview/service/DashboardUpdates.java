@@ -0,0 +1,206 @@
+package com.oceanview.service;
+
+import com.oceanview.model.DashboardStats;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DashboardUpdates - Pushes dashboard counter changes to live subscribers (Singleton)
+ * DashboardStatsService calls changed() whenever a booking, status change or
+ * bill invalidates the counters. Bursts of changes within COALESCE_MS are
+ * merged into one push, and each push only carries the counters that differ
+ * from the previous one. Nothing runs while nobody is subscribed.
+ *
+ * Stats are fetched before pushLock is taken, and frames are handed to the
+ * subscribers after it is released; subscribers only queue them, so one
+ * stalled client can't hold up the pushes, heartbeats or new streams.
+ */
+public class DashboardUpdates {
+
+    private static final DashboardUpdates INSTANCE = new DashboardUpdates();
+
+    private static final long COALESCE_MS = 250;
+    private static final long HEARTBEAT_SECONDS = 25;
+    // Catches changes made by other nodes; costs at most one query per snapshot TTL
+    private static final long CHECK_SECONDS = 15;
+
+    /**
+     * One connected dashboard. send() and heartbeat() must not block; they
+     * return false once the client is gone or has fallen too far behind.
+     */
+    public interface Subscriber {
+        boolean send(String event, Map<String, Object> data);
+
+        boolean heartbeat();
+
+        void close();
+    }
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Object pushLock = new Object();
+    private Map<String, Object> lastPushed;
+    private ScheduledExecutorService scheduler;
+
+    protected DashboardStatsService dashboardStatsService;
+
+    protected DashboardUpdates() {
+    }
+
+    public static DashboardUpdates getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Register a dashboard and send it the full current counters
+     */
+    public void subscribe(Subscriber subscriber) {
+        startScheduler();
+        Map<String, Object> fetched = toMap(statsService().getStats());
+        boolean behind;
+        synchronized (pushLock) {
+            // Start from the counters the next delta is computed against,
+            // so no push can be missed or arrive out of order
+            if (lastPushed == null) {
+                lastPushed = fetched;
+            }
+            if (!subscriber.send("snapshot", lastPushed)) {
+                return;
+            }
+            subscribers.add(subscriber);
+            behind = !lastPushed.equals(fetched);
+        }
+        if (behind) {
+            changed();
+        }
+    }
+
+    public void unsubscribe(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Counters may have changed - schedule one coalesced push
+     */
+    public void changed() {
+        ScheduledExecutorService s = scheduler;
+        if (s == null || subscribers.isEmpty()) {
+            return;
+        }
+        if (flushScheduled.compareAndSet(false, true)) {
+            s.schedule(() -> {
+                flushScheduled.set(false);
+                flush();
+            }, COALESCE_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Send the counters that changed since the last push to every subscriber.
+     * Runs on the scheduler thread only, so pushes go out in order.
+     */
+    void flush() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Map<String, Object> current = toMap(statsService().getStats());
+        Map<String, Object> delta = new LinkedHashMap<>();
+        List<Subscriber> targets;
+        synchronized (pushLock) {
+            for (Map.Entry<String, Object> counter : current.entrySet()) {
+                if (lastPushed == null
+                        || !Objects.equals(lastPushed.get(counter.getKey()), counter.getValue())) {
+                    delta.put(counter.getKey(), counter.getValue());
+                }
+            }
+            lastPushed = current;
+            if (delta.isEmpty()) {
+                return;
+            }
+            // Streams that subscribe after this point start from current instead
+            targets = new ArrayList<>(subscribers);
+        }
+        for (Subscriber subscriber : targets) {
+            if (!subscriber.send("stats", delta)) {
+                drop(subscriber);
+            }
+        }
+    }
+
+    void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.heartbeat()) {
+                drop(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Close every stream and stop the background thread (application shutdown)
+     */
+    public synchronized void stop() {
+        for (Subscriber subscriber : subscribers) {
+            drop(subscriber);
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private synchronized void startScheduler() {
+        if (scheduler != null) {
+            return;
+        }
+        ScheduledExecutorService s = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "dashboard-updates");
+            t.setDaemon(true);
+            return t;
+        });
+        s.scheduleWithFixedDelay(this::heartbeat, HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+        s.scheduleWithFixedDelay(this::flush, CHECK_SECONDS, CHECK_SECONDS, TimeUnit.SECONDS);
+        scheduler = s;
+    }
+
+    private void drop(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.close();
+    }
+
+    private DashboardStatsService statsService() {
+        return dashboardStatsService != null ? dashboardStatsService : DashboardStatsService.getInstance();
+    }
+
+    /**
+     * Same field names as /api/dashboard?action=rooms and ?action=revenue
+     */
+    static Map<String, Object> toMap(DashboardStats stats) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("single", stats.getSingleAvail());
+        map.put("double", stats.getDoubleAvail());
+        map.put("deluxe", stats.getDeluxeAvail());
+        map.put("suite", stats.getSuiteAvail());
+        map.put("totalAvailable", stats.getTotalAvailableByType());
+        map.put("totalRooms", stats.getTotalRooms());
+        map.put("occupiedRooms", stats.getOccupiedRooms());
+        map.put("totalReservations", stats.getTotalReservations());
+        map.put("activeReservations", stats.getActiveReservations());
+        map.put("totalRevenue", stats.getTotalRevenue());
+        map.put("totalBills", stats.getTotalBills());
+        return map;
+    }
+}
@@ -0,0 +1,83 @@
+package com.oceanview.service;
+
+import com.oceanview.dao.AdvisoryLockDAO;
+import com.oceanview.dao.DAOFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DatabaseBookingLock - Room locks shared by every node on the database
+ * Takes a MySQL named lock per room ("oceanview.room.&lt;id&gt;") so bookings
+ * on different Tomcat nodes queue for the same room without SERIALIZABLE
+ * isolation. Threads on this node first queue on the local stripe, so at
+ * most one session per node waits in GET_LOCK for a given room.
+ */
+public class DatabaseBookingLock implements BookingLock {
+
+    static final String LOCK_PREFIX = "oceanview.room.";
+
+    private final RoomLockManager localLocks;
+    private final int timeoutSeconds;
+
+    protected AdvisoryLockDAO advisoryLockDAO;
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public DatabaseBookingLock(RoomLockManager localLocks) {
+        this.localLocks = localLocks;
+        this.timeoutSeconds = (int) Math.max(1, (localLocks.getTimeoutMs() + 999) / 1000);
+        this.advisoryLockDAO = DAOFactory.createAdvisoryLockDAO();
+    }
+
+    @Override
+    public Held lock(int roomId) {
+        RoomLockManager.RoomLock local = localLocks.lock(roomId);
+        if (local == null) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        AdvisoryLockDAO.Lock shared = advisoryLockDAO.acquire(LOCK_PREFIX + roomId, timeoutSeconds);
+        long waited = System.nanoTime() - start;
+        waitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+
+        if (shared == null) {
+            timeouts.increment();
+            local.close();
+            System.err.println("[WARN] Could not take the database lock on room " + roomId
+                + " within " + timeoutSeconds + "s");
+            return null;
+        }
+        acquired.increment();
+        return () -> {
+            try {
+                shared.close();
+            } finally {
+                local.close();
+            }
+        };
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        long count = acquired.sum() + timeouts.sum();
+        Map<String, Object> local = localLocks.getStats();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("type", "mysql");
+        stats.put("acquired", acquired.sum());
+        stats.put("timeouts", timeouts.sum());
+        stats.put("avgWaitMs", count > 0 ? waitNanos.sum() / count / 1_000_000.0 : 0.0);
+        stats.put("maxWaitMs", maxWaitNanos.get() / 1_000_000.0);
+        stats.put("timeoutMs", timeoutSeconds * 1000L);
+        stats.put("localContended", local.get("contended"));
+        stats.put("localTimeouts", local.get("timeouts"));
+        return stats;
+    }
+}
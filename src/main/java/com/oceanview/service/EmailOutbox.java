@@ -0,0 +1,232 @@
+package com.oceanview.service;
+
+import com.oceanview.dao.DAOFactory;
+import com.oceanview.dao.EmailLogAppender;
+import com.oceanview.dao.EmailOutboxDAO;
+import com.oceanview.model.EmailMessage;
+
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * EmailOutbox - Persistent outbox for guest emails (Singleton)
+ * enqueue() stores the message in email_outbox and hands it to a small pool
+ * of worker threads, so the request that triggered it never waits for SMTP.
+ *
+ * A failed send is retried with exponential backoff; after MAX_ATTEMPTS the
+ * message is marked DEAD and left in the table for staff to inspect. At most
+ * MAX_QUEUED messages are held in memory - the rest wait in the table and
+ * are picked up by the periodic sweep, which also resumes anything that was
+ * still PENDING when the application last stopped.
+ *
+ * Each row is claimed in the table before it is sent, so when several
+ * nodes sweep the same outbox only one of them sends a given message.
+ */
+public class EmailOutbox {
+
+    private static final EmailOutbox INSTANCE = new EmailOutbox();
+
+    private static final int WORKERS = 2;
+    private static final int MAX_QUEUED = 500;
+    static final int MAX_ATTEMPTS = 5;
+    private static final long BASE_BACKOFF_MS = 30 * 1000;
+    private static final long MAX_BACKOFF_MS = 15 * 60 * 1000;
+    private static final long SWEEP_SECONDS = 60;
+    // How long a claimed message is ours; well beyond the SMTP timeouts
+    private static final int CLAIM_SECONDS = 5 * 60;
+    private static final long STOP_WAIT_SECONDS = 10;
+
+    private final EmailOutboxDAO outboxDAO;
+    private final EmailLogAppender emailLog;
+    private final MailSender mailSender;
+    private final long baseBackoffMs;
+
+    private final ScheduledThreadPoolExecutor workers;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Set<Long> inMemory = ConcurrentHashMap.newKeySet();
+    private ScheduledFuture<?> sweeper;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+
+    private EmailOutbox() {
+        this(DAOFactory.createEmailOutboxDAO(), EmailLogAppender.getInstance(),
+             new SmtpMailSender(), BASE_BACKOFF_MS);
+    }
+
+    EmailOutbox(EmailOutboxDAO outboxDAO, EmailLogAppender emailLog,
+                MailSender mailSender, long baseBackoffMs) {
+        this.outboxDAO = outboxDAO;
+        this.emailLog = emailLog;
+        this.mailSender = mailSender;
+        this.baseBackoffMs = baseBackoffMs;
+        this.workers = new ScheduledThreadPoolExecutor(WORKERS, r -> {
+            Thread t = new Thread(r, "email-outbox");
+            t.setDaemon(true);
+            return t;
+        });
+        this.workers.setRemoveOnCancelPolicy(true);
+    }
+
+    public static EmailOutbox getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Start the periodic sweep (the first run resumes PENDING messages)
+     */
+    public synchronized void start() {
+        if (sweeper == null) {
+            sweeper = workers.scheduleWithFixedDelay(this::sweep, 0, SWEEP_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Stop the workers; unsent messages stay PENDING in the table.
+     * Waits (bounded) for in-flight deliveries so their status and email
+     * log rows are written before the log appender and the pool close.
+     */
+    public synchronized void stop() {
+        workers.shutdownNow();
+        try {
+            if (!workers.awaitTermination(STOP_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("[WARN] Email deliveries still running after "
+                    + STOP_WAIT_SECONDS + "s; stopping anyway");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        mailSender.close();
+    }
+
+    /**
+     * Queue an email for delivery and return straight away
+     */
+    public boolean enqueue(String toEmail, String subject, String body) {
+        if (toEmail == null || toEmail.trim().isEmpty()) {
+            return false;
+        }
+        EmailMessage message = new EmailMessage(toEmail.trim(), subject, body);
+        if (!outboxDAO.enqueue(message)) {
+            // Can't persist it - still try to send from memory
+            System.out.println("[WARN] Email to " + toEmail + " not stored in outbox; sending from memory.");
+        }
+        schedule(message, 0);
+        return true;
+    }
+
+    /**
+     * Messages waiting in memory for a worker (including scheduled retries)
+     */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    /**
+     * Queue depth and delivery counters for monitoring
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queueDepth", queued.get());
+        stats.put("sent", sent.sum());
+        stats.put("retried", retried.sum());
+        stats.put("deadLettered", deadLettered.sum());
+        return stats;
+    }
+
+    /**
+     * Pick up due PENDING messages that are not already queued in memory
+     */
+    void sweep() {
+        int room = MAX_QUEUED - queued.get();
+        if (room <= 0) {
+            return;
+        }
+        List<EmailMessage> due = outboxDAO.getDueMessages(room);
+        for (EmailMessage message : due) {
+            schedule(message, 0);
+        }
+    }
+
+    private void schedule(EmailMessage message, long delayMs) {
+        long id = message.getOutboxId();
+        if (id > 0) {
+            if (queued.get() >= MAX_QUEUED) {
+                return; // stays PENDING; the sweep will pick it up
+            }
+            if (!inMemory.add(id)) {
+                return; // already queued
+            }
+        }
+        queued.incrementAndGet();
+        try {
+            workers.schedule(() -> deliver(message), delayMs, TimeUnit.MILLISECONDS);
+        } catch (java.util.concurrent.RejectedExecutionException e) {
+            // Shutting down - the message stays PENDING for the next start
+            queued.decrementAndGet();
+            inMemory.remove(id);
+        }
+    }
+
+    private void deliver(EmailMessage message) {
+        queued.decrementAndGet();
+        long id = message.getOutboxId();
+
+        // Another node (or an earlier run) may already have it
+        if (id > 0 && !outboxDAO.claim(id, CLAIM_SECONDS)) {
+            inMemory.remove(id);
+            return;
+        }
+
+        int attempts = message.getAttempts() + 1;
+        message.setAttempts(attempts);
+
+        try {
+            mailSender.send(message.getRecipient(), message.getSubject(), message.getBody());
+            sent.increment();
+            // Record the new status before dropping the marker, so a sweep can't requeue it
+            if (id > 0) {
+                outboxDAO.markSent(id, attempts);
+            }
+            inMemory.remove(id);
+            emailLog.append(message.getRecipient(), message.getSubject(), message.getBody(), "SENT");
+            System.out.println("[EMAIL SUCCESS] Sent to: " + message.getRecipient());
+
+        } catch (Exception e) {
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+
+            if (attempts >= MAX_ATTEMPTS) {
+                deadLettered.increment();
+                if (id > 0) {
+                    outboxDAO.markDead(id, attempts, error);
+                }
+                inMemory.remove(id);
+                emailLog.append(message.getRecipient(), message.getSubject(), message.getBody(), "FAILED");
+                System.err.println("[EMAIL ERROR] Giving up on " + message.getRecipient()
+                    + " after " + attempts + " attempts: " + error);
+                return;
+            }
+
+            long backoff = Math.min(baseBackoffMs << (attempts - 1), MAX_BACKOFF_MS);
+            retried.increment();
+            if (id > 0) {
+                outboxDAO.markRetry(id, attempts,
+                    new Timestamp(System.currentTimeMillis() + backoff), error);
+            }
+            inMemory.remove(id);
+            System.err.println("[EMAIL ERROR] " + error + " - retrying " + message.getRecipient()
+                + " in " + backoff / 1000 + "s");
+            schedule(message, backoff);
+        }
+    }
+}
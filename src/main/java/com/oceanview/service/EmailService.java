@@ -1,74 +1,22 @@
 package com.oceanview.service;
 
-import com.oceanview.dao.DBConnection;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
-import java.util.Properties;
-import javax.mail.Message;
-import javax.mail.MessagingException;
-import javax.mail.PasswordAuthentication;
-import javax.mail.Session;
-import javax.mail.Transport;
-import javax.mail.internet.InternetAddress;
-import javax.mail.internet.MimeMessage;
-
 /**
- * EmailService - Real Email Notifications using JavaMail API
- * Uses Gmail SMTP for sending emails
+ * EmailService - Guest email notifications
+ * Builds the messages and hands them to the EmailOutbox, which sends them
+ * over SMTP in the background with retries
  * Complex functionality requirement
  */
 public class EmailService {
 
-    // ⚠️ Your Gmail credentials
-    private static final String FROM_EMAIL = "your-email@gmail.com";
-    private static final String APP_PASSWORD = "your-app-password-here";
-
-    /**
-     * Send real email using Gmail SMTP
-     */
-    private boolean sendEmail(String toEmail, String subject, 
-                              String body) {
-        Properties props = new Properties();
-        props.put("mail.smtp.auth", "true");
-        props.put("mail.smtp.starttls.enable", "true");
-        props.put("mail.smtp.host", "smtp.gmail.com");
-        props.put("mail.smtp.port", "587");
-        props.put("mail.smtp.ssl.trust", "smtp.gmail.com");
-
-        Session session = Session.getInstance(props,
-            new javax.mail.Authenticator() {
-                protected PasswordAuthentication 
-                        getPasswordAuthentication() {
-                    return new PasswordAuthentication(
-                        FROM_EMAIL, APP_PASSWORD);
-                }
-            });
-
-        try {
-            Message message = new MimeMessage(session);
-            message.setFrom(new InternetAddress(FROM_EMAIL));
-            message.setRecipients(Message.RecipientType.TO,
-                InternetAddress.parse(toEmail));
-            message.setSubject(subject);
-            message.setText(body);
-
-            Transport.send(message);
-            System.out.println("[EMAIL SUCCESS] Sent to: " + toEmail);
-
-            // Log to database
-            logEmail(toEmail, subject, body, "SENT");
-            return true;
+    protected EmailOutbox emailOutbox;
 
-        } catch (MessagingException e) {
-            System.err.println("[EMAIL ERROR] " + e.getMessage());
-            logEmail(toEmail, subject, body, "FAILED");
-            return false;
-        }
+    public EmailService() {
+        this.emailOutbox = EmailOutbox.getInstance();
     }
 
     /**
-     * Send reservation confirmation email
+     * Queue reservation confirmation email
+     * Returns false if there is no address to send to
      */
     public boolean sendReservationConfirmation(String guestName,
             String toEmail, String reservationNumber,
@@ -87,11 +35,11 @@ public class EmailService {
             "Tel: +94 91 223 4567\n" +
             "Email: info@oceanviewgalle.lk";
 
-        return sendEmail(toEmail, subject, body);
+        return emailOutbox.enqueue(toEmail, subject, body);
     }
 
     /**
-     * Send bill email
+     * Queue bill email
      */
     public boolean sendBillEmail(String guestName, String toEmail,
             String reservationNumber, double amount) {
@@ -105,32 +53,6 @@ public class EmailService {
             "Thank you for staying with us!\n" +
             "Ocean View Resort, Galle, Sri Lanka";
 
-        return sendEmail(toEmail, subject, body);
-    }
-
-    /**
-     * Log email to database
-     */
-    private boolean logEmail(String recipient, String subject,
-            String message, String status) {
-
-        String sql = "INSERT INTO email_logs (recipient, subject, " +
-                     "message, status, sent_at) " +
-                     "VALUES (?, ?, ?, ?, NOW())";
-
-        try (Connection conn = 
-                DBConnection.getInstance().getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setString(1, recipient);
-            stmt.setString(2, subject);
-            stmt.setString(3, message);
-            stmt.setString(4, status);
-            return stmt.executeUpdate() > 0;
-
-        } catch (SQLException e) {
-            System.err.println("[EMAIL LOG ERROR] " + e.getMessage());
-            return false;
-        }
+        return emailOutbox.enqueue(toEmail, subject, body);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package com.oceanview.service;
+
+import javax.mail.MessagingException;
+
+/**
+ * MailSender - Delivers one email
+ * SmtpMailSender is used in production; tests plug in a local stand-in.
+ */
+public interface MailSender {
+    void send(String toEmail, String subject, String body) throws MessagingException;
+
+    /**
+     * Release any open connections
+     */
+    default void close() {
+    }
+}
@@ -0,0 +1,199 @@
+package com.oceanview.service;
+
+import com.oceanview.dao.QueryDeadline;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ReportAssembler - Runs independent report queries side by side (Singleton)
+ * The reports page needs several queries that don't depend on each other.
+ * Each one runs on a small worker pool, so the page waits about as long as
+ * the slowest query instead of the sum of all of them.
+ *
+ * Every query has a fallback value. A query that fails, returns null or is
+ * still running when the timeout (oceanview.reports.queryTimeoutMs, default
+ * 5000) is up is reported as missing and the page is built from the rest.
+ * The same deadline is set as the JDBC query timeout of the statements a
+ * query runs, so MySQL cancels them instead of running on after we give up.
+ *
+ * Workers have no unit of work, so each query borrows its own pooled
+ * connection; WORKERS is kept well below the pool size. When every worker
+ * is busy and the queue is full, the request thread runs the query itself.
+ */
+public class ReportAssembler {
+
+    private static final ReportAssembler INSTANCE = new ReportAssembler(
+        Integer.getInteger("oceanview.reports.threads", 4),
+        Long.getLong("oceanview.reports.queryTimeoutMs", 5000));
+
+    private static final int MAX_QUEUED = 64;
+
+    private final ThreadPoolExecutor workers;
+    private final long timeoutMs;
+
+    private final LongAdder reports = new LongAdder();
+    private final LongAdder partialReports = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    ReportAssembler(int threads, long timeoutMs) {
+        AtomicInteger seq = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(MAX_QUEUED), r -> {
+                Thread t = new Thread(r, "report-worker-" + seq.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.workers.allowCoreThreadTimeOut(true);
+        this.timeoutMs = timeoutMs;
+    }
+
+    public static ReportAssembler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Start a report; add queries with Report.add() and collect them with join()
+     */
+    public Report newReport() {
+        return new Report();
+    }
+
+    /**
+     * Stop the workers. Called by AppContextListener on shutdown.
+     */
+    public void stop() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Report and query outcome counters for monitoring
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("reports", reports.sum());
+        stats.put("partialReports", partialReports.sum());
+        stats.put("timeouts", timeouts.sum());
+        stats.put("failures", failures.sum());
+        stats.put("activeWorkers", workers.getActiveCount());
+        stats.put("timeoutMs", timeoutMs);
+        return stats;
+    }
+
+    /**
+     * One set of queries submitted together
+     */
+    public final class Report {
+        private final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        private final Map<String, Part<?>> parts = new LinkedHashMap<>();
+
+        private Report() {
+        }
+
+        /**
+         * Start a query now; fallback is used if it fails, returns null or times out
+         */
+        public <T> Report add(String name, Callable<T> query, T fallback) {
+            Callable<T> bounded = () -> QueryDeadline.call(deadline, query);
+            parts.put(name, new Part<>(workers.submit(bounded), fallback));
+            return this;
+        }
+
+        /**
+         * Wait for every query until the shared deadline and collect the results
+         */
+        public Result join() {
+            Map<String, Object> values = new LinkedHashMap<>();
+            List<String> missing = new ArrayList<>();
+
+            for (Map.Entry<String, Part<?>> entry : parts.entrySet()) {
+                String name = entry.getKey();
+                Part<?> part = entry.getValue();
+                try {
+                    long remaining = Math.max(0, deadline - System.nanoTime());
+                    Object value = part.future.get(remaining, TimeUnit.NANOSECONDS);
+                    if (value != null) {
+                        values.put(name, value);
+                        continue;
+                    }
+                    // The DAOs return null when their query fails
+                    failures.increment();
+                    System.err.println("[WARN] Report query '" + name + "' returned no data");
+                    values.put(name, part.fallback);
+                    missing.add(name);
+                } catch (TimeoutException e) {
+                    part.future.cancel(true);
+                    timeouts.increment();
+                    System.err.println("[WARN] Report query '" + name + "' timed out after " + timeoutMs + "ms");
+                    values.put(name, part.fallback);
+                    missing.add(name);
+                } catch (ExecutionException e) {
+                    failures.increment();
+                    System.err.println("[WARN] Report query '" + name + "' failed: " + e.getCause());
+                    values.put(name, part.fallback);
+                    missing.add(name);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    part.future.cancel(true);
+                    values.put(name, part.fallback);
+                    missing.add(name);
+                }
+            }
+
+            reports.increment();
+            if (!missing.isEmpty()) {
+                partialReports.increment();
+            }
+            return new Result(values, missing);
+        }
+    }
+
+    /**
+     * Query results by name; missing lists the ones that fell back
+     */
+    public static final class Result {
+        private final Map<String, Object> values;
+        private final List<String> missing;
+
+        Result(Map<String, Object> values, List<String> missing) {
+            this.values = values;
+            this.missing = Collections.unmodifiableList(missing);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> T get(String name) {
+            return (T) values.get(name);
+        }
+
+        public boolean isComplete() {
+            return missing.isEmpty();
+        }
+
+        public List<String> getMissing() {
+            return missing;
+        }
+    }
+
+    private static final class Part<T> {
+        final Future<T> future;
+        final T fallback;
+
+        Part(Future<T> future, T fallback) {
+            this.future = future;
+            this.fallback = fallback;
+        }
+    }
+}
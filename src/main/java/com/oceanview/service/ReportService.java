@@ -7,8 +7,11 @@ import com.oceanview.dao.RoomDAO;
 import com.oceanview.model.Bill;
 import com.oceanview.model.Reservation;
 import com.oceanview.model.Room;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * ReportService - Business logic for generating reports
@@ -17,14 +20,16 @@ import java.util.List;
  */
 public class ReportService {
 
-    private RoomDAO roomDAO;
-    private BillDAO billDAO;
-    private ReservationDAO reservationDAO;
+    protected RoomDAO roomDAO;
+    protected BillDAO billDAO;
+    protected ReservationDAO reservationDAO;
+    protected ValidationService validationService;
 
     public ReportService() {
         this.roomDAO = DAOFactory.createRoomDAO();
         this.billDAO = DAOFactory.createBillDAO();
         this.reservationDAO = DAOFactory.createReservationDAO();
+        this.validationService = new ValidationService();
     }
 
     public List<Room> getRoomOccupancyReport() {
@@ -59,31 +64,53 @@ public class ReportService {
         return reservationDAO.getActiveReservationCount();
     }
 
+    /**
+     * Reservation count per status plus "Total", with every known status
+     * present (zero if no reservation has it)
+     */
+    public Map<String, Integer> getReservationStatusBreakdown() {
+        Map<String, Integer> byStatus = reservationDAO.getReservationCountsByStatus();
+        Map<String, Integer> breakdown = new LinkedHashMap<>();
+        int total = 0;
+        for (String status : new String[] { "Confirmed", "Checked-Out", "Cancelled" }) {
+            breakdown.put(status, 0);
+        }
+        for (Map.Entry<String, Integer> entry : byStatus.entrySet()) {
+            breakdown.put(entry.getKey(), entry.getValue());
+            total += entry.getValue();
+        }
+        breakdown.put("Total", total);
+        return breakdown;
+    }
+
+    /**
+     * Bill count ("totalBills") and revenue ("totalRevenue")
+     */
+    public Map<String, Number> getRevenueSummary() {
+        return billDAO.getRevenueSummary();
+    }
+
     public int getAvailableRoomCount(String roomType) {
         return roomDAO.getAvailableRoomCount(roomType);
     }
 
     public List<Reservation> getReservationsByDateRange(
             String startDate, String endDate) {
-        if (startDate == null || startDate.trim().isEmpty()) {
-            return new ArrayList<>();
-        }
-        if (endDate == null || endDate.trim().isEmpty()) {
+        LocalDate start = validationService.parseDate(startDate);
+        LocalDate end = validationService.parseDate(endDate);
+        if (start == null || end == null || end.isBefore(start)) {
             return new ArrayList<>();
         }
-        return reservationDAO.getReservationsByDateRange(
-            startDate, endDate);
+        return reservationDAO.getReservationsByDateRange(start, end);
     }
 
-    public double getRevenueByDateRange(
+    public Double getRevenueByDateRange(
             String startDate, String endDate) {
-        if (startDate == null || startDate.trim().isEmpty()) {
-            return 0;
-        }
-        if (endDate == null || endDate.trim().isEmpty()) {
-            return 0;
+        LocalDate start = validationService.parseDate(startDate);
+        LocalDate end = validationService.parseDate(endDate);
+        if (start == null || end == null) {
+            return 0.0;
         }
-        return reservationDAO.getRevenueByDateRange(
-            startDate, endDate);
+        return reservationDAO.getRevenueByDateRange(start, end);
     }
 }
\ No newline at end of file
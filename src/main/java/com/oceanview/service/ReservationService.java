@@ -3,24 +3,53 @@ package com.oceanview.service;
 import com.oceanview.dao.BillDAO;
 import com.oceanview.dao.DAOFactory;
 import com.oceanview.dao.ReservationDAO;
+import com.oceanview.dao.RoomCatalogCache;
 import com.oceanview.dao.RoomDAO;
+import com.oceanview.dao.RowHandler;
+import com.oceanview.dao.UnitOfWork;
 import com.oceanview.model.Bill;
 import com.oceanview.model.Reservation;
+import com.oceanview.model.Projection;
+import com.oceanview.model.ReservationPage;
 import com.oceanview.model.Room;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ReservationService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final List<String> RESERVATION_STATUSES =
+        Arrays.asList("Confirmed", "Checked-Out", "Cancelled");
+
+    // Allowed status changes; Checked-Out and Cancelled are final
+    private static final Map<String, List<String>> STATUS_TRANSITIONS = new HashMap<>();
+    static {
+        STATUS_TRANSITIONS.put("Confirmed", Arrays.asList("Checked-Out", "Cancelled"));
+    }
+
     protected ReservationDAO reservationDAO;
     protected RoomDAO roomDAO;
     protected BillDAO billDAO;
     protected ValidationService validationService;
+    protected AvailabilityIndex availabilityIndex;
+    protected BookingLock bookingLock;
 
     public ReservationService() {
         this.reservationDAO = DAOFactory.createReservationDAO();
         this.roomDAO        = DAOFactory.createRoomDAO();
         this.billDAO        = DAOFactory.createBillDAO();
         this.validationService = new ValidationService();
+        this.availabilityIndex = AvailabilityIndex.getInstance();
+        this.bookingLock = BookingLocks.get();
     }
 
     /**
@@ -31,6 +60,8 @@ public class ReservationService {
                                     String guestEmail, String roomType, int roomId,
                                     String checkInDate, String checkOutDate, int createdBy) {
 
+        BookingLatency latency = new BookingLatency();
+
         // Validate guest name
         if (!validationService.isValidGuestName(guestName)) {
             return "Invalid guest name. Only letters and spaces allowed (2-100 characters).";
@@ -61,6 +92,10 @@ public class ReservationService {
             return "Invalid check-out date. Check-out must be after check-in date.";
         }
 
+        LocalDate checkIn = validationService.parseDate(checkInDate);
+        LocalDate checkOut = validationService.parseDate(checkOutDate);
+        latency.mark(BookingLatency.Stage.VALIDATE);
+
         // Check room exists
         Room room = roomDAO.getRoomById(roomId);
         if (room == null) {
@@ -69,33 +104,97 @@ public class ReservationService {
         if (!"Available".equals(room.getStatus())) {
             return "Selected room is not available. Please choose another room.";
         }
+        // Fast reject from the in-memory calendar before opening a transaction
+        if (availabilityIndex.isLoaded()
+                && !availabilityIndex.isAvailable(roomId, checkIn, checkOut)) {
+            return "Room already booked for selected dates. Please choose different dates or another room.";
+        }
+        latency.mark(BookingLatency.Stage.PRECHECK);
+
+        Reservation reservation = new Reservation(guestName, address, contactNumber,
+                roomId, roomType, checkIn, checkOut, createdBy);
+        reservation.setGuestEmail(guestEmail);
+
+        // Bookings for the same room queue here, on this node or (mysql lock) across nodes
+        BookingLock.Held roomLock = bookingLock.lock(roomId);
+        latency.mark(BookingLatency.Stage.ROOM_LOCK);
+        if (roomLock == null) {
+            latency.log(roomId, "lock-timeout");
+            return "The room is busy with another booking. Please try again.";
+        }
 
-        // Step 6 — Backend overlap check (double booking prevent)
-        if (reservationDAO.hasOverlappingReservation(roomId, checkInDate, checkOutDate)) {
+        String error;
+        try (roomLock) {
+            // Availability check, number allocation and insert run as one transaction
+            try {
+                error = UnitOfWork.inTransaction(() -> book(reservation, latency));
+            } catch (SQLException e) {
+                System.err.println("Error booking room " + roomId + ": " + e.getMessage());
+                error = "Error saving reservation. Please try again.";
+            }
+            latency.mark(BookingLatency.Stage.COMMIT);
+
+            if (error == null) {
+                availabilityIndex.addStay(reservation.getReservationId(), roomId, checkIn, checkOut);
+            }
+        }
+        if (error == null) {
+            // after_reservation_insert trigger has flipped rooms.status.
+            // Outside the room lock: the next booking for the room shouldn't wait on the caches
+            RoomCatalogCache.getInstance().invalidate();
+            DashboardStatsService.getInstance().invalidate();
+        }
+        latency.log(roomId, error == null ? reservation.getReservationNumber() : "rejected");
+        return error;
+    }
+
+    /**
+     * Booking pipeline - runs inside one transaction.
+     * Locking the room row serializes bookings for the same room, so nothing can
+     * be inserted between the overlap check and our insert (no double booking).
+     */
+    private String book(Reservation reservation, BookingLatency latency) throws SQLException {
+
+        // Step 6 — Backend overlap check (double booking prevent), under the room lock
+        int overlaps = reservationDAO.lockRoomAndCountOverlaps(reservation.getRoomId(),
+                reservation.getCheckInDate(), reservation.getCheckOutDate());
+        latency.mark(BookingLatency.Stage.LOCK_AND_CHECK);
+        if (overlaps > 0) {
+            UnitOfWork.setRollbackOnly();
             return "Room already booked for selected dates. Please choose different dates or another room.";
         }
 
         // Generate reservation number using Stored Procedure
         String reservationNumber = reservationDAO.generateReservationNumber();
+        latency.mark(BookingLatency.Stage.NUMBER);
         if (reservationNumber == null || reservationNumber.isEmpty()) {
+            UnitOfWork.setRollbackOnly();
             return "Error generating reservation number. Please try again.";
         }
-
-        // Create reservation object
-        Reservation reservation = new Reservation(guestName, address, contactNumber,
-                roomId, roomType, checkInDate, checkOutDate, createdBy);
         reservation.setReservationNumber(reservationNumber);
-        reservation.setGuestEmail(guestEmail);
 
         // Save to database
         boolean success = reservationDAO.addReservation(reservation);
+        latency.mark(BookingLatency.Stage.INSERT);
         if (!success) {
+            UnitOfWork.setRollbackOnly();
             return "Error saving reservation. Please try again.";
         }
 
         return null;
     }
 
+    /**
+     * Check whether a room is free for the given nights.
+     * Answered from the in-memory availability index when it is loaded.
+     */
+    public boolean isRoomAvailable(int roomId, LocalDate checkInDate, LocalDate checkOutDate) {
+        if (availabilityIndex.isLoaded()) {
+            return availabilityIndex.isAvailable(roomId, checkInDate, checkOutDate);
+        }
+        return !reservationDAO.hasOverlappingReservation(roomId, checkInDate, checkOutDate);
+    }
+
     /**
      * Get reservation details by reservation number
      */
@@ -123,6 +222,121 @@ public class ReservationService {
         return reservationDAO.getAllReservations();
     }
 
+    /**
+     * One page of reservations, newest first.
+     * after is the nextCursor of the previous page (null for the first page);
+     * limit is clamped to 1..MAX_PAGE_SIZE, with DEFAULT_PAGE_SIZE when not
+     * positive. status and the check-in date bounds are optional filters.
+     * Throws IllegalArgumentException for a malformed cursor or filter.
+     */
+    public ReservationPage getReservationPage(String after, int limit, String status,
+                                              String checkInFrom, String checkInTo) {
+        return getReservationPage(after, limit, status, checkInFrom, checkInTo, Projection.ALL);
+    }
+
+    /**
+     * One page of reservations with only the projected fields loaded
+     */
+    public ReservationPage getReservationPage(String after, int limit, String status,
+                                              String checkInFrom, String checkInTo,
+                                              Projection fields) {
+        int pageSize = limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+
+        Timestamp afterCreatedAt = null;
+        int afterId = 0;
+        if (after != null && !after.trim().isEmpty()) {
+            long[] cursor = decodeCursor(after.trim());
+            afterCreatedAt = new Timestamp(cursor[0]);
+            afterId = (int) cursor[1];
+        }
+
+        status = blankToNull(status);
+        checkInFrom = blankToNull(checkInFrom);
+        checkInTo = blankToNull(checkInTo);
+        validateFilters(status, checkInFrom, checkInTo);
+
+        // One extra row tells us whether another page follows
+        List<Reservation> rows = reservationDAO.getReservationPage(afterCreatedAt, afterId,
+            status, checkInFrom, checkInTo, pageSize + 1, fields);
+        if (rows == null) {
+            rows = new ArrayList<>();
+        }
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = new ArrayList<>(rows.subList(0, pageSize));
+            Reservation last = rows.get(pageSize - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getReservationId());
+        }
+        return new ReservationPage(rows, nextCursor, pageSize);
+    }
+
+    /**
+     * Stream every matching reservation, newest first, without building a list.
+     * Same filters as getReservationPage. Returns the number of rows streamed.
+     */
+    public int streamReservations(String status, String checkInFrom, String checkInTo,
+                                  Projection fields, RowHandler<Reservation> handler)
+            throws SQLException, IOException {
+        status = blankToNull(status);
+        checkInFrom = blankToNull(checkInFrom);
+        checkInTo = blankToNull(checkInTo);
+        validateFilters(status, checkInFrom, checkInTo);
+        return reservationDAO.streamReservations(status, checkInFrom, checkInTo, fields, handler);
+    }
+
+    /**
+     * Throws IllegalArgumentException if the listing filters are invalid
+     * (blank filters are ignored, as in getReservationPage)
+     */
+    public void validateReservationFilters(String status, String checkInFrom, String checkInTo) {
+        validateFilters(blankToNull(status), blankToNull(checkInFrom), blankToNull(checkInTo));
+    }
+
+    private void validateFilters(String status, String checkInFrom, String checkInTo) {
+        if (status != null && !RESERVATION_STATUSES.contains(status)) {
+            throw new IllegalArgumentException("Invalid status: " + status);
+        }
+        if ((checkInFrom != null && !validationService.isValidDate(checkInFrom))
+                || (checkInTo != null && !validationService.isValidDate(checkInTo))) {
+            throw new IllegalArgumentException("Dates must be in yyyy-MM-dd format.");
+        }
+    }
+
+    /**
+     * The most recent reservations, for the dashboard table
+     */
+    public List<Reservation> getRecentReservations(int count) {
+        return getReservationPage(null, count, null, null, null).getReservations();
+    }
+
+    /**
+     * Opaque page cursor: "<created_at millis>_<reservation_id>"
+     */
+    static String encodeCursor(Timestamp createdAt, int reservationId) {
+        long millis = createdAt != null ? createdAt.getTime() : 0;
+        return millis + "_" + reservationId;
+    }
+
+    static long[] decodeCursor(String cursor) {
+        int sep = cursor.indexOf('_');
+        try {
+            if (sep > 0) {
+                return new long[] {
+                    Long.parseLong(cursor.substring(0, sep)),
+                    Integer.parseInt(cursor.substring(sep + 1))
+                };
+            }
+        } catch (NumberFormatException e) {
+            // fall through
+        }
+        throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+
     /**
      * Generate bill for a reservation using Stored Procedure
      */
@@ -144,6 +358,7 @@ public class ReservationService {
         if (total <= 0) {
             return "Error generating bill. Please try again.";
         }
+        DashboardStatsService.getInstance().invalidate();
 
         return null;
     }
@@ -164,6 +379,14 @@ public class ReservationService {
     public List<Bill> getAllBills() {
         return billDAO.getAllBills();
     }
+
+    /**
+     * Stream every bill, newest first, without building a list
+     */
+    public int streamBills(Projection fields, RowHandler<Bill> handler)
+            throws SQLException, IOException {
+        return billDAO.streamBills(fields, handler);
+    }
     /**
      * Record bill payment (PAID/UNPAID + CASH/CARD)
      * Returns error message if failed, null if successful
@@ -192,38 +415,97 @@ public class ReservationService {
     }
     
     /**
-     * Update reservation status
+     * Update reservation status; returns an error message, or null on success.
+     * Only transitions allowed by STATUS_TRANSITIONS are applied.
+     */
+    public String updateReservationStatus(int reservationId, String status) {
+        return updateReservationStatus(reservationId, status, null);
+    }
+
+    /**
+     * Update reservation status, optionally only if the reservation is still at
+     * expectedVersion (the version the clerk's page was rendered from).
+     * The change is a compare-and-set on status and version, so of two clerks
+     * acting on the same reservation exactly one wins and the other is told.
      */
-    public boolean updateReservationStatus(int reservationId, String status) {
+    public String updateReservationStatus(int reservationId, String status, Integer expectedVersion) {
         if (reservationId <= 0) {
-            return false;
+            return "Invalid reservation ID.";
+        }
+        if (status == null || !RESERVATION_STATUSES.contains(status)) {
+            return "Invalid reservation status.";
+        }
+        Reservation stay = reservationDAO.getStayById(reservationId);
+        if (stay == null) {
+            return "Reservation not found.";
+        }
+        if (expectedVersion != null && expectedVersion != stay.getVersion()) {
+            return conflictMessage(stay.getStatus());
+        }
+        if (!canTransition(stay.getStatus(), status)) {
+            return "Cannot change a " + stay.getStatus() + " reservation to " + status + ".";
         }
-        if (status == null || status.trim().isEmpty()) {
-            return false;
+
+        if (!reservationDAO.updateReservationStatus(reservationId, stay.getStatus(),
+                stay.getVersion(), status)) {
+            // Lost the race (or the update failed) - report what it is now
+            Reservation current = reservationDAO.getStayById(reservationId);
+            if (current != null && current.getVersion() != stay.getVersion()) {
+                return conflictMessage(current.getStatus());
+            }
+            return "Failed to update reservation status.";
         }
-        return reservationDAO.updateReservationStatus(reservationId, status);
+
+        // after_reservation_update trigger has flipped rooms.status
+        RoomCatalogCache.getInstance().invalidate();
+        DashboardStatsService.getInstance().invalidate();
+        syncAvailabilityIndex(stay, status);
+        return null;
     }
 
-    public List<Reservation> getReservationsByDateRange(String startDate, String endDate) {
-        if (startDate == null || startDate.trim().isEmpty()) {
-            return new java.util.ArrayList<>();
+    /**
+     * True if a reservation in status from may be moved to status to
+     */
+    public static boolean canTransition(String from, String to) {
+        List<String> allowed = STATUS_TRANSITIONS.get(from);
+        return allowed != null && allowed.contains(to);
+    }
+
+    private static String conflictMessage(String currentStatus) {
+        return "This reservation was updated by someone else (now " + currentStatus
+            + "). Please reload and try again.";
+    }
+
+    /**
+     * Keep the availability index in step with a status change
+     */
+    private void syncAvailabilityIndex(Reservation stay, String status) {
+        if (!availabilityIndex.isLoaded()) {
+            return;
         }
-        if (endDate == null || endDate.trim().isEmpty()) {
-            return new java.util.ArrayList<>();
+        if ("Confirmed".equals(status)) {
+            availabilityIndex.addStay(stay.getReservationId(), stay.getRoomId(),
+                stay.getCheckInDate(), stay.getCheckOutDate());
+        } else {
+            availabilityIndex.removeStay(stay.getReservationId());
         }
-        if (endDate.compareTo(startDate) < 0) {
+    }
+
+    public List<Reservation> getReservationsByDateRange(String startDate, String endDate) {
+        LocalDate start = validationService.parseDate(startDate);
+        LocalDate end = validationService.parseDate(endDate);
+        if (start == null || end == null || end.isBefore(start)) {
             return new java.util.ArrayList<>();
         }
-        return reservationDAO.getReservationsByDateRange(startDate, endDate);
+        return reservationDAO.getReservationsByDateRange(start, end);
     }
 
-    public double getRevenueByDateRange(String startDate, String endDate) {
-        if (startDate == null || startDate.trim().isEmpty()) {
-            return 0;
-        }
-        if (endDate == null || endDate.trim().isEmpty()) {
-            return 0;
+    public Double getRevenueByDateRange(String startDate, String endDate) {
+        LocalDate start = validationService.parseDate(startDate);
+        LocalDate end = validationService.parseDate(endDate);
+        if (start == null || end == null) {
+            return 0.0;
         }
-        return reservationDAO.getRevenueByDateRange(startDate, endDate);
+        return reservationDAO.getRevenueByDateRange(start, end);
     }
 }
\ No newline at end of file
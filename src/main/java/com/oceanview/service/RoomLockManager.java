@@ -0,0 +1,135 @@
+package com.oceanview.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * RoomLockManager - Striped in-process locks keyed by room (Singleton)
+ * Bookings for the same room queue here before they take a connection,
+ * so they no longer pile up on the room row lock in MySQL. Rooms hash
+ * onto a fixed set of stripes sized to the core count, so work on
+ * different rooms rarely shares a lock. The room row lock in the booking
+ * transaction stays as the guard across application nodes.
+ *
+ * Waits are bounded by oceanview.roomLock.timeoutMs (default 5000); lock()
+ * returns null on timeout so the caller can answer "try again".
+ * This is the single-node BookingLock; DatabaseBookingLock adds a MySQL
+ * named lock on top for multi-node deployments.
+ */
+public class RoomLockManager implements BookingLock {
+
+    private static final RoomLockManager INSTANCE = new RoomLockManager(
+        defaultStripeCount(), Long.getLong("oceanview.roomLock.timeoutMs", 5000));
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final long timeoutMs;
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder contended = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * stripeCount is rounded up to a power of two
+     */
+    RoomLockManager(int stripeCount, long timeoutMs) {
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public static RoomLockManager getInstance() {
+        return INSTANCE;
+    }
+
+    private static int defaultStripeCount() {
+        return Math.max(16, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Lock the room, waiting at most the configured timeout.
+     * Returns the held lock (release it with close(), e.g. try-with-resources),
+     * or null if the wait timed out or the thread was interrupted.
+     */
+    @Override
+    public RoomLock lock(int roomId) {
+        ReentrantLock lock = stripes[stripe(roomId)];
+        if (!lock.tryLock()) {
+            contended.increment();
+            long start = System.nanoTime();
+            boolean locked;
+            try {
+                locked = lock.tryLock(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                locked = false;
+            }
+            long waited = System.nanoTime() - start;
+            waitNanos.add(waited);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+            if (!locked) {
+                timeouts.increment();
+                System.err.println("[WARN] Timed out after " + timeoutMs
+                    + "ms waiting for the lock on room " + roomId);
+                return null;
+            }
+        }
+        acquired.increment();
+        return new RoomLock(lock);
+    }
+
+    int stripe(int roomId) {
+        // Spread the bits so ids that differ only in high bits still split
+        int h = roomId * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        long waits = contended.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("type", "local");
+        stats.put("stripes", stripes.length);
+        stats.put("acquired", acquired.sum());
+        stats.put("contended", waits);
+        stats.put("timeouts", timeouts.sum());
+        stats.put("avgWaitMs", waits > 0 ? waitNanos.sum() / waits / 1_000_000.0 : 0.0);
+        stats.put("maxWaitMs", maxWaitNanos.get() / 1_000_000.0);
+        stats.put("timeoutMs", timeoutMs);
+        return stats;
+    }
+
+    /**
+     * A held room stripe; close() releases it
+     */
+    public static final class RoomLock implements BookingLock.Held {
+        private final ReentrantLock lock;
+
+        private RoomLock(ReentrantLock lock) {
+            this.lock = lock;
+        }
+
+        @Override
+        public void close() {
+            lock.unlock();
+        }
+    }
+}
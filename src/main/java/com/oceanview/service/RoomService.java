@@ -3,16 +3,20 @@ package com.oceanview.service;
 import com.oceanview.dao.DAOFactory;
 import com.oceanview.dao.RoomDAO;
 import com.oceanview.model.Room;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 public class RoomService {
 
     protected RoomDAO roomDAO;
     protected ValidationService validationService;
+    protected AvailabilityIndex availabilityIndex;
 
     public RoomService() {
         this.roomDAO = DAOFactory.createRoomDAO();
         this.validationService = new ValidationService();
+        this.availabilityIndex = AvailabilityIndex.getInstance();
     }
 
     //Get all rooms
@@ -34,10 +38,22 @@ public class RoomService {
   
     public List<Room> getAvailableRoomsByTypeAndDateRange(String roomType, String checkIn, String checkOut) {
         if (!validationService.isValidRoomType(roomType)) return null;
-        if (!validationService.isValidDate(checkIn) || !validationService.isValidDate(checkOut)) return null;
-        if (!validationService.isValidCheckOutDate(checkIn, checkOut)) return null;
+        LocalDate from = validationService.parseDate(checkIn);
+        LocalDate to = validationService.parseDate(checkOut);
+        if (from == null || to == null || !to.isAfter(from)) return null;
 
-        return roomDAO.getAvailableRoomsByTypeAndDateRange(roomType, checkIn, checkOut);
+        // Answer from the in-memory calendar when loaded, otherwise NOT EXISTS query
+        if (availabilityIndex.isLoaded()) {
+            List<Room> rooms = new ArrayList<>();
+            for (Room room : roomDAO.getAllRooms()) {
+                if (roomType.equals(room.getRoomType())
+                        && availabilityIndex.isAvailable(room.getRoomId(), from, to)) {
+                    rooms.add(room);
+                }
+            }
+            return rooms;
+        }
+        return roomDAO.getAvailableRoomsByTypeAndDateRange(roomType, from, to);
     }
 
     //Get room by ID
@@ -0,0 +1,220 @@
+package com.oceanview.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Properties;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.PasswordAuthentication;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+
+/**
+ * SmtpMailSender - Sends email over SMTP using JavaMail
+ * Gmail by default; the server can be changed with system properties, e.g.
+ * -Doceanview.smtp.host=localhost -Doceanview.smtp.port=2525
+ * -Doceanview.smtp.starttls=false -Doceanview.smtp.password=
+ * to point at a local SMTP stand-in for testing.
+ *
+ * One Session is shared by every send, and connected Transports are kept in
+ * a small pool, so a burst of emails pays for the TLS handshake and login
+ * once per connection instead of once per message. A connection idle for
+ * more than VALIDATE_AFTER_MS is checked with NOOP before it is reused.
+ */
+public class SmtpMailSender implements MailSender {
+
+    // ⚠️ Your Gmail credentials
+    private static final String FROM_EMAIL = "your-email@gmail.com";
+    private static final String APP_PASSWORD = "your-app-password-here";
+
+    private static final int MAX_CONNECTIONS = 2;
+    private static final long VALIDATE_AFTER_MS = 10 * 1000;
+    // Servers drop idle SMTP sessions; don't reuse one that has sat this long
+    private static final long MAX_IDLE_MS = 60 * 1000;
+    // Gmail limits the number of messages per connection
+    private static final int MAX_MESSAGES_PER_CONNECTION = 100;
+
+    private final String host = System.getProperty("oceanview.smtp.host", "smtp.gmail.com");
+    private final String port = System.getProperty("oceanview.smtp.port", "587");
+    private final String username = System.getProperty("oceanview.smtp.user", FROM_EMAIL);
+    private final String password = System.getProperty("oceanview.smtp.password", APP_PASSWORD);
+    private final boolean startTls =
+        Boolean.parseBoolean(System.getProperty("oceanview.smtp.starttls", "true"));
+    private final String fromEmail = System.getProperty("oceanview.mail.from", username);
+
+    private final Session session;
+    private final Deque<PooledTransport> idle = new ArrayDeque<>();
+    private int openConnections;
+    private boolean closed;
+
+    public SmtpMailSender() {
+        boolean auth = password != null && !password.isEmpty();
+
+        Properties props = new Properties();
+        props.put("mail.smtp.auth", String.valueOf(auth));
+        props.put("mail.smtp.starttls.enable", String.valueOf(startTls));
+        props.put("mail.smtp.host", host);
+        props.put("mail.smtp.port", port);
+        props.put("mail.smtp.ssl.trust", host);
+        props.put("mail.smtp.connectiontimeout", "10000");
+        props.put("mail.smtp.timeout", "10000");
+
+        this.session = Session.getInstance(props, !auth ? null :
+            new javax.mail.Authenticator() {
+                protected PasswordAuthentication
+                        getPasswordAuthentication() {
+                    return new PasswordAuthentication(username, password);
+                }
+            });
+    }
+
+    @Override
+    public void send(String toEmail, String subject, String body) throws MessagingException {
+        Message message = new MimeMessage(session);
+        message.setFrom(new InternetAddress(fromEmail));
+        message.setRecipients(Message.RecipientType.TO,
+            InternetAddress.parse(toEmail));
+        message.setSubject(subject);
+        message.setText(body);
+        message.saveChanges();
+
+        PooledTransport pooled = borrow();
+        try {
+            pooled.transport.sendMessage(message, message.getAllRecipients());
+            pooled.messagesSent++;
+        } catch (MessagingException | RuntimeException e) {
+            // The connection may be half-way through a transaction - never reuse it
+            discard(pooled);
+            pooled = null;
+            throw e;
+        } finally {
+            if (pooled != null) {
+                release(pooled);
+            }
+        }
+    }
+
+    /**
+     * Close every pooled connection (application shutdown)
+     */
+    @Override
+    public void close() {
+        Deque<PooledTransport> toClose;
+        synchronized (this) {
+            closed = true;
+            toClose = new ArrayDeque<>(idle);
+            idle.clear();
+        }
+        for (PooledTransport pooled : toClose) {
+            discard(pooled);
+        }
+    }
+
+    /**
+     * An open connection from the pool, or a new one if none is usable.
+     * Callers beyond MAX_CONNECTIONS wait for a connection to come back.
+     */
+    private PooledTransport borrow() throws MessagingException {
+        while (true) {
+            PooledTransport candidate = null;
+            synchronized (this) {
+                if (closed) {
+                    throw new MessagingException("Mail sender is closed");
+                }
+                candidate = idle.pollLast();
+                if (candidate == null) {
+                    if (openConnections < MAX_CONNECTIONS) {
+                        openConnections++;
+                    } else {
+                        try {
+                            wait(VALIDATE_AFTER_MS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new MessagingException("Interrupted waiting for an SMTP connection");
+                        }
+                        continue;
+                    }
+                }
+            }
+
+            if (candidate == null) {
+                return connect();
+            }
+            if (isUsable(candidate)) {
+                return candidate;
+            }
+            // Reuse the slot for a fresh connection
+            closeQuietly(candidate.transport);
+            return connect();
+        }
+    }
+
+    private boolean isUsable(PooledTransport pooled) {
+        long idleFor = System.currentTimeMillis() - pooled.lastUsed;
+        if (idleFor > MAX_IDLE_MS || pooled.messagesSent >= MAX_MESSAGES_PER_CONNECTION) {
+            return false;
+        }
+        // isConnected() sends NOOP and returns false if the server has gone away
+        return idleFor < VALIDATE_AFTER_MS || pooled.transport.isConnected();
+    }
+
+    /**
+     * Open a new connection; the slot has already been counted in openConnections
+     */
+    private PooledTransport connect() throws MessagingException {
+        try {
+            Transport transport = session.getTransport("smtp");
+            transport.connect();
+            return new PooledTransport(transport);
+        } catch (MessagingException | RuntimeException e) {
+            synchronized (this) {
+                openConnections--;
+                notifyAll();
+            }
+            throw e;
+        }
+    }
+
+    private void release(PooledTransport pooled) {
+        pooled.lastUsed = System.currentTimeMillis();
+        boolean keep;
+        synchronized (this) {
+            keep = !closed;
+            if (keep) {
+                idle.addLast(pooled);
+                notifyAll();
+            }
+        }
+        if (!keep) {
+            discard(pooled);
+        }
+    }
+
+    private void discard(PooledTransport pooled) {
+        closeQuietly(pooled.transport);
+        synchronized (this) {
+            openConnections--;
+            notifyAll();
+        }
+    }
+
+    private static void closeQuietly(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            // Already broken - nothing to clean up
+        }
+    }
+
+    private static final class PooledTransport {
+        final Transport transport;
+        long lastUsed = System.currentTimeMillis();
+        int messagesSent;
+
+        PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package com.oceanview.service;
 
 import java.time.LocalDate;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 
 /**
  * ValidationService - Handles all input validation
  * Ensures data integrity before saving to database
  * Part of the 3-Tier Architecture (Business Logic Layer)
+ *
+ * The format checks are hand-written scanners that accept exactly what the
+ * original regular expressions accepted, without compiling a Pattern or
+ * allocating on each call. Dates are parsed once by parseDate().
  */
 public class ValidationService {
 
@@ -18,7 +24,18 @@ public class ValidationService {
         if (name == null || name.trim().isEmpty()) {
             return false;
         }
-        return name.matches("^[a-zA-Z\\s]{2,100}$");
+        // ^[a-zA-Z\s]{2,100}$
+        int length = name.length();
+        if (length < 2 || length > 100) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            if (!isAsciiLetter(c) && !isRegexWhitespace(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -39,7 +56,15 @@ public class ValidationService {
         if (contact == null || contact.trim().isEmpty()) {
             return false;
         }
-        return contact.matches("^(\\+94|0)?[0-9]{9,10}$");
+        // ^(\+94|0)?[0-9]{9,10}$
+        int start = 0;
+        if (contact.startsWith("+94")) {
+            start = 3;
+        } else if (contact.length() == 11 && contact.charAt(0) == '0') {
+            // 11 characters only fit with the leading 0 as the prefix
+            start = 1;
+        }
+        return isDigits(contact, start, contact.length(), 9, 10);
     }
 
     /**
@@ -57,14 +82,33 @@ public class ValidationService {
      * Validate date format (yyyy-MM-dd)
      */
     public boolean isValidDate(String date) {
-        if (date == null || date.trim().isEmpty()) {
-            return false;
+        return parseDate(date) != null;
+    }
+
+    /**
+     * Parse a yyyy-MM-dd date, or null if it is not a valid ISO date.
+     * Plain 10-character dates are scanned directly; anything else (e.g. a
+     * signed or 5+ digit year) goes through ISO_LOCAL_DATE as before.
+     */
+    public LocalDate parseDate(String date) {
+        if (date == null || date.isEmpty()) {
+            return null;
+        }
+        if (date.length() == 10 && date.charAt(4) == '-' && date.charAt(7) == '-'
+                && isDigits(date, 0, 4, 4, 4) && isDigits(date, 5, 7, 2, 2)
+                && isDigits(date, 8, 10, 2, 2)) {
+            int year = digits(date, 0, 4);
+            int month = digits(date, 5, 7);
+            int day = digits(date, 8, 10);
+            if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)) {
+                return null;
+            }
+            return LocalDate.of(year, month, day);
         }
         try {
-            LocalDate.parse(date, DateTimeFormatter.ISO_LOCAL_DATE);
-            return true;
+            return LocalDate.parse(date, DateTimeFormatter.ISO_LOCAL_DATE);
         } catch (DateTimeParseException e) {
-            return false;
+            return null;
         }
     }
 
@@ -72,24 +116,17 @@ public class ValidationService {
      * Validate check-in date is today or future date
      */
     public boolean isValidCheckInDate(String checkInDate) {
-        if (!isValidDate(checkInDate)) {
-            return false;
-        }
-        LocalDate checkIn = LocalDate.parse(checkInDate);
-        LocalDate today = LocalDate.now();
-        return !checkIn.isBefore(today);
+        LocalDate checkIn = parseDate(checkInDate);
+        return checkIn != null && !checkIn.isBefore(LocalDate.now());
     }
 
     /**
      * Validate check-out date is after check-in date
      */
     public boolean isValidCheckOutDate(String checkInDate, String checkOutDate) {
-        if (!isValidDate(checkInDate) || !isValidDate(checkOutDate)) {
-            return false;
-        }
-        LocalDate checkIn = LocalDate.parse(checkInDate);
-        LocalDate checkOut = LocalDate.parse(checkOutDate);
-        return checkOut.isAfter(checkIn);
+        LocalDate checkIn = parseDate(checkInDate);
+        LocalDate checkOut = parseDate(checkOutDate);
+        return checkIn != null && checkOut != null && checkOut.isAfter(checkIn);
     }
 
     /**
@@ -99,7 +136,18 @@ public class ValidationService {
         if (username == null || username.trim().isEmpty()) {
             return false;
         }
-        return username.matches("^[a-zA-Z0-9]{3,50}$");
+        // ^[a-zA-Z0-9]{3,50}$
+        int length = username.length();
+        if (length < 3 || length > 50) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = username.charAt(i);
+            if (!isAsciiLetter(c) && !isAsciiDigit(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -119,18 +167,77 @@ public class ValidationService {
         if (reservationNumber == null || reservationNumber.trim().isEmpty()) {
             return false;
         }
-        return reservationNumber.matches("^OVR-\\d{4}-\\d{4}$");
+        // ^OVR-\d{4}-\d{4,11}$ - the sequence widens past 9999, up to the VARCHAR(20) column
+        int length = reservationNumber.length();
+        return length >= 13
+                && reservationNumber.startsWith("OVR-")
+                && reservationNumber.charAt(8) == '-'
+                && isDigits(reservationNumber, 4, 8, 4, 4)
+                && isDigits(reservationNumber, 9, length, 4, 11);
     }
 
     /**
      * Calculate number of nights between two dates
      */
     public int calculateNights(String checkInDate, String checkOutDate) {
-        if (!isValidDate(checkInDate) || !isValidDate(checkOutDate)) {
+        LocalDate checkIn = parseDate(checkInDate);
+        LocalDate checkOut = parseDate(checkOutDate);
+        if (checkIn == null || checkOut == null) {
             return 0;
         }
-        LocalDate checkIn = LocalDate.parse(checkInDate);
-        LocalDate checkOut = LocalDate.parse(checkOutDate);
-        return (int) java.time.temporal.ChronoUnit.DAYS.between(checkIn, checkOut);
+        return (int) ChronoUnit.DAYS.between(checkIn, checkOut);
+    }
+
+    /**
+     * True if from..to holds only ASCII digits and its length is within min..max
+     */
+    private static boolean isDigits(String s, int from, int to, int min, int max) {
+        int length = to - from;
+        if (length < min || length > max) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            if (!isAsciiDigit(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int digits(String s, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + (s.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return Year.isLeap(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * The characters \s matches: space, \t, \n, \x0B, \f and \r
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 }
\ No newline at end of file
@@ -341,27 +341,53 @@
     drawRoomTypeChart(singleCount, doubleCount, deluxeCount, suiteCount);
 
    
+    function updateRoomCounts(data) {
+        document.getElementById('count-single').textContent = data.single;
+        document.getElementById('count-double').textContent = data.double;
+        document.getElementById('count-deluxe').textContent = data.deluxe;
+        document.getElementById('count-suite').textContent  = data.suite;
+
+        var total = data.single + data.double + data.deluxe + data.suite;
+        drawOccupancyChart(total);
+        drawRoomTypeChart(data.single, data.double, data.deluxe, data.suite);
+    }
+
     function refreshDashboardStats() {
         var xhr = new XMLHttpRequest();
         xhr.open('GET', 'api/dashboard?action=rooms', true);
         xhr.onreadystatechange = function() {
             if (xhr.readyState === 4 && xhr.status === 200) {
-                var data = JSON.parse(xhr.responseText);
-
-                document.getElementById('count-single').textContent = data.single;
-                document.getElementById('count-double').textContent = data.double;
-                document.getElementById('count-deluxe').textContent = data.deluxe;
-                document.getElementById('count-suite').textContent  = data.suite;
-
-                var total = data.single + data.double + data.deluxe + data.suite;
-                drawOccupancyChart(total);
-                drawRoomTypeChart(data.single, data.double, data.deluxe, data.suite);
+                updateRoomCounts(JSON.parse(xhr.responseText));
             }
         };
         xhr.send();
     }
 
-    setInterval(refreshDashboardStats, 30000);
+    // Live updates: the server pushes only the counters that changed
+    var roomCounts = {single: singleCount, double: doubleCount,
+                      deluxe: deluxeCount, suite: suiteCount};
+
+    function applyStats(event) {
+        var data = JSON.parse(event.data);
+        var changed = false;
+        for (var key in roomCounts) {
+            if (data.hasOwnProperty(key) && data[key] !== roomCounts[key]) {
+                roomCounts[key] = data[key];
+                changed = true;
+            }
+        }
+        if (changed) {
+            updateRoomCounts(roomCounts);
+        }
+    }
+
+    if (window.EventSource) {
+        var stream = new EventSource('api/dashboard/stream');
+        stream.addEventListener('snapshot', applyStats);
+        stream.addEventListener('stats', applyStats);
+    } else {
+        setInterval(refreshDashboardStats, 30000);
+    }
 </script>
 
 </body>
@@ -21,8 +21,9 @@ function loadAvailableRooms() {
     var checkInDate  = document.getElementById('checkInDate').value;
     var checkOutDate = document.getElementById('checkOutDate').value;
 
-    // Base URL
-    var url = 'api/rooms?type=' + encodeURIComponent(roomType);
+    // Base URL - only the fields the room dropdown uses
+    var url = 'api/rooms?type=' + encodeURIComponent(roomType) +
+              '&fields=roomId,roomNumber,ratePerNight,description';
 
     
     if (checkInDate && checkOutDate &&
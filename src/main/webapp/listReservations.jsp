@@ -1,5 +1,6 @@
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core"%>
+<%@ taglib prefix="fn" uri="http://java.sun.com/jsp/jstl/functions"%>
 <!DOCTYPE html>
 <html lang="en">
 <head>
@@ -51,6 +52,27 @@
         <a href="reservation?action=search" class="btn btn-info" style="margin-left: 10px;">🔍 Search Reservation</a>
     </div>
 
+    <!-- Filters -->
+    <form method="get" action="reservation" class="card" style="padding: 15px 20px; margin-bottom: 20px;">
+        <input type="hidden" name="action" value="list">
+        <label>Status
+            <select name="status">
+                <option value="">All</option>
+                <option value="Confirmed" ${param.status == 'Confirmed' ? 'selected' : ''}>Confirmed</option>
+                <option value="Checked-Out" ${param.status == 'Checked-Out' ? 'selected' : ''}>Checked-Out</option>
+                <option value="Cancelled" ${param.status == 'Cancelled' ? 'selected' : ''}>Cancelled</option>
+            </select>
+        </label>
+        <label style="margin-left: 15px;">Check-in from
+            <input type="date" name="from" value="${fn:escapeXml(param.from)}">
+        </label>
+        <label style="margin-left: 15px;">to
+            <input type="date" name="to" value="${fn:escapeXml(param.to)}">
+        </label>
+        <button type="submit" class="btn btn-info btn-sm" style="margin-left: 15px;">Filter</button>
+        <a href="reservation?action=list" class="btn btn-sm" style="margin-left: 5px;">Clear</a>
+    </form>
+
     <!-- Reservations Table -->
     <div class="card">
         <div class="card-header">Reservation Records</div>
@@ -121,6 +143,31 @@
                 </tbody>
             </table>
         </div>
+
+        <!-- Keyset pagination: newest first, forward only -->
+        <div style="padding: 15px 20px; text-align: right;">
+            <c:if test="${not empty param.after}">
+                <c:url var="firstUrl" value="reservation">
+                    <c:param name="action" value="list"/>
+                    <c:param name="status" value="${param.status}"/>
+                    <c:param name="from" value="${param.from}"/>
+                    <c:param name="to" value="${param.to}"/>
+                    <c:param name="limit" value="${reservationPage.limit}"/>
+                </c:url>
+                <a href="${firstUrl}" class="btn btn-info btn-sm">&laquo; Newest</a>
+            </c:if>
+            <c:if test="${reservationPage.hasMore}">
+                <c:url var="nextUrl" value="reservation">
+                    <c:param name="action" value="list"/>
+                    <c:param name="status" value="${param.status}"/>
+                    <c:param name="from" value="${param.from}"/>
+                    <c:param name="to" value="${param.to}"/>
+                    <c:param name="limit" value="${reservationPage.limit}"/>
+                    <c:param name="after" value="${reservationPage.nextCursor}"/>
+                </c:url>
+                <a href="${nextUrl}" class="btn btn-info btn-sm" style="margin-left: 10px;">Older &raquo;</a>
+            </c:if>
+        </div>
     </div>
 
 </div>
@@ -103,6 +103,10 @@
         <p>Real-time hotel performance data to facilitate informed decision-making</p>
     </div>
 
+    <c:if test="${not empty reportWarning}">
+        <div class="alert alert-info">${reportWarning}</div>
+    </c:if>
+
     <!-- Key Statistics -->
     <div class="report-stats">
         <div class="stat-card blue">
@@ -52,7 +52,7 @@
             <div class="search-form">
                 <input type="text" name="reservationNumber" 
                        placeholder="Enter reservation number (e.g., OVR-2025-0001)" 
-                       required pattern="OVR-\d{4}-\d{4}"
+                       required pattern="OVR-\d{4}-\d{4,11}"
                        title="Format: OVR-YYYY-NNNN (e.g., OVR-2025-0001)">
                 <button type="submit" class="btn btn-primary">Search</button>
             </div>
@@ -119,11 +119,11 @@
                    class="btn btn-warning">Generate Bill</a>
 
                 <c:if test="${reservation.status == 'Confirmed'}">
-                    <a href="reservation?action=checkout&id=${reservation.reservationId}" 
+                    <a href="reservation?action=checkout&id=${reservation.reservationId}&version=${reservation.version}" 
                        class="btn btn-success"
                        onclick="return confirm('Are you sure you want to check-out this guest?');">
                        Check-Out Guest</a>
-                    <a href="reservation?action=cancel&id=${reservation.reservationId}" 
+                    <a href="reservation?action=cancel&id=${reservation.reservationId}&version=${reservation.version}" 
                        class="btn btn-danger"
                        onclick="return confirm('Are you sure you want to cancel this reservation?');">
                        Cancel Reservation</a>
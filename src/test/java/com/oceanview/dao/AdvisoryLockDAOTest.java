@@ -0,0 +1,71 @@
+package com.oceanview.dao;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.Executor;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * AdvisoryLockDAOTest - Unit tests for AdvisoryLockDAO.Lock
+ * Uses Mockito to mock the JDBC connection
+ * No database required
+ */
+public class AdvisoryLockDAOTest {
+
+    @Test
+    public void testReleaseReturnsConnection() throws Exception {
+        Connection conn = Mockito.mock(Connection.class);
+        PreparedStatement stmt = Mockito.mock(PreparedStatement.class);
+        when(conn.prepareStatement("SELECT RELEASE_LOCK(?)")).thenReturn(stmt);
+        when(stmt.executeQuery()).thenReturn(Mockito.mock(ResultSet.class));
+
+        new AdvisoryLockDAO.Lock(conn, "oceanview.room.5").close();
+
+        verify(stmt).setString(1, "oceanview.room.5");
+        verify(conn, never()).abort(any(Executor.class));
+        verify(conn).close();
+    }
+
+    @Test
+    public void testFailedReleaseAbortsSession() throws Exception {
+        Connection conn = Mockito.mock(Connection.class);
+        PreparedStatement stmt = Mockito.mock(PreparedStatement.class);
+        when(conn.prepareStatement("SELECT RELEASE_LOCK(?)")).thenReturn(stmt);
+        when(stmt.executeQuery()).thenThrow(new SQLException("Statement timed out"));
+
+        new AdvisoryLockDAO.Lock(conn, "oceanview.room.5").close();
+
+        verify(conn).abort(any(Executor.class));
+        verify(conn).close();
+    }
+
+    @Test
+    public void testFailedReleaseInUnitOfWorkSwitchesToFreshConnection() throws Exception {
+        DBConnection pool = Mockito.mock(DBConnection.class);
+        Connection aborted = Mockito.mock(Connection.class);
+        Connection fresh = Mockito.mock(Connection.class);
+        when(pool.borrow()).thenReturn(aborted, fresh);
+        when(aborted.prepareStatement("SELECT RELEASE_LOCK(?)"))
+            .thenThrow(new SQLException("Communications link failure"));
+
+        UnitOfWork uow = UnitOfWork.begin();
+        try {
+            Connection shared = uow.getConnection(pool);
+            new AdvisoryLockDAO.Lock(shared, "oceanview.room.5").close();
+
+            verify(aborted).abort(any(Executor.class));
+            verify(aborted).close();
+
+            uow.getConnection(pool).prepareStatement("SELECT 1");
+            verify(fresh).prepareStatement("SELECT 1");
+        } finally {
+            uow.end();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.oceanview.dao;
+
+import com.oceanview.model.EmailLog;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * EmailLogAppenderTest - Unit tests for EmailLogAppender
+ * Uses Mockito to mock EmailLogDAO
+ * No database required
+ */
+public class EmailLogAppenderTest {
+
+    private EmailLogDAO mockEmailLogDAO;
+    private EmailLogAppender appender;
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    @Before
+    public void setUp() throws Exception {
+        mockEmailLogDAO = Mockito.mock(EmailLogDAO.class);
+        doAnswer(invocation -> {
+            List<EmailLog> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            return null;
+        }).when(mockEmailLogDAO).insertBatch(anyList());
+        appender = new EmailLogAppender(mockEmailLogDAO);
+    }
+
+    @After
+    public void tearDown() {
+        appender.stop();
+    }
+
+    @Test
+    public void testAppend_DoesNotWriteInline() throws Exception {
+        appender.append("guest@example.com", "Hello", "Body", "SENT");
+
+        assertEquals(1, appender.getBufferedCount());
+        verify(mockEmailLogDAO, never()).insertBatch(anyList());
+    }
+
+    @Test
+    public void testStop_FlushesInBatches() {
+        for (int i = 0; i < 250; i++) {
+            appender.append("guest" + i + "@example.com", "Hello", "Body", "SENT");
+        }
+
+        appender.stop();
+
+        assertEquals(0, appender.getBufferedCount());
+        assertEquals(3, batchSizes.size());
+        assertEquals(Integer.valueOf(100), batchSizes.get(0));
+        assertEquals(Integer.valueOf(50), batchSizes.get(2));
+        assertEquals(250L, appender.getStats().get("written"));
+    }
+
+    @Test
+    public void testBackgroundWriterBatches() throws Exception {
+        appender.start();
+        for (int i = 0; i < 100; i++) {
+            appender.append("guest" + i + "@example.com", "Hello", "Body", "SENT");
+        }
+
+        // A full batch is written without waiting for the flush interval
+        verify(mockEmailLogDAO, timeout(1000).atLeastOnce()).insertBatch(anyList());
+        appender.stop();
+        assertEquals(100, batchSizes.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    public void testFullBufferDropsInsteadOfBlocking() {
+        for (int i = 0; i < 2050; i++) {
+            appender.append("guest@example.com", "Hello", "Body", "SENT");
+        }
+
+        assertEquals(2L, appender.getStats().get("dropped"));
+    }
+}
@@ -0,0 +1,123 @@
+package com.oceanview.dao;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReservationNumberAllocatorTest - Unit tests for ReservationNumberAllocator
+ * Uses Mockito to mock ReservationNumberDAO
+ * No database required
+ */
+public class ReservationNumberAllocatorTest {
+
+    private ReservationNumberDAO mockNumberDAO;
+    private ReservationNumberAllocator allocator;
+
+    @Before
+    public void setUp() {
+        mockNumberDAO = Mockito.mock(ReservationNumberDAO.class);
+        // Prefetches run on the calling thread so the tests are deterministic
+        allocator = new ReservationNumberAllocator(mockNumberDAO, 3, Runnable::run);
+    }
+
+    @Test
+    public void testNextBlockIsPrefetchedBeforeCurrentRunsOut() {
+        when(mockNumberDAO.reserveBlock(2025, 3)).thenReturn(1L, 4L);
+
+        assertEquals("OVR-2025-0001", allocator.next(2025));
+        assertEquals("OVR-2025-0002", allocator.next(2025));
+        verify(mockNumberDAO, times(1)).reserveBlock(2025, 3);
+
+        // Three quarters used: the next block is reserved in the background
+        assertEquals("OVR-2025-0003", allocator.next(2025));
+        verify(mockNumberDAO, times(2)).reserveBlock(2025, 3);
+
+        // ...and taken over without another reservation
+        assertEquals("OVR-2025-0004", allocator.next(2025));
+        verify(mockNumberDAO, times(2)).reserveBlock(2025, 3);
+    }
+
+    @Test
+    public void testStartPrefetchesFirstBlock() {
+        int year = java.time.LocalDate.now().getYear();
+        when(mockNumberDAO.reserveBlock(year, 3)).thenReturn(11L);
+
+        allocator.start();
+        verify(mockNumberDAO).reserveBlock(year, 3);
+
+        assertEquals(ReservationNumberAllocator.format(year, 11), allocator.next());
+        verify(mockNumberDAO, times(1)).reserveBlock(year, 3);
+    }
+
+    @Test
+    public void testFailedPrefetchFallsBackToCallingThread() {
+        when(mockNumberDAO.reserveBlock(2025, 3)).thenReturn(1L, -1L, 4L);
+
+        allocator.next(2025);
+        allocator.next(2025);
+        allocator.next(2025);
+        assertEquals("OVR-2025-0004", allocator.next(2025));
+        verify(mockNumberDAO, times(3)).reserveBlock(2025, 3);
+    }
+
+    @Test
+    public void testYearRolloverReservesNewBlock() {
+        when(mockNumberDAO.reserveBlock(2025, 3)).thenReturn(41L);
+        when(mockNumberDAO.reserveBlock(2026, 3)).thenReturn(1L);
+
+        assertEquals("OVR-2025-0041", allocator.next(2025));
+        assertEquals("OVR-2026-0001", allocator.next(2026));
+        verify(mockNumberDAO).reserveBlock(2026, 3);
+    }
+
+    @Test
+    public void testDatabaseErrorReturnsNull() {
+        when(mockNumberDAO.reserveBlock(anyInt(), anyInt())).thenReturn(-1L);
+        assertNull(allocator.next(2025));
+    }
+
+    @Test
+    public void testFormatWidensPastFourDigits() {
+        assertEquals("OVR-2025-0007", ReservationNumberAllocator.format(2025, 7));
+        assertEquals("OVR-2025-9999", ReservationNumberAllocator.format(2025, 9999));
+        assertEquals("OVR-2025-10000", ReservationNumberAllocator.format(2025, 10000));
+    }
+
+    @Test
+    public void testConcurrentCallersGetDistinctNumbers() throws Exception {
+        AtomicLong nextFree = new AtomicLong(1);
+        when(mockNumberDAO.reserveBlock(2025, 3))
+            .thenAnswer(inv -> nextFree.getAndAdd(3));
+        ExecutorService prefetcher = Executors.newSingleThreadExecutor();
+        allocator = new ReservationNumberAllocator(mockNumberDAO, 3, prefetcher);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            futures.add(pool.submit(() -> allocator.next(2025)));
+        }
+        Set<String> numbers = Collections.synchronizedSet(new HashSet<>());
+        for (Future<String> f : futures) {
+            assertTrue(numbers.add(f.get()));
+        }
+        pool.shutdown();
+        prefetcher.shutdown();
+
+        assertEquals(2000, numbers.size());
+        assertTrue(numbers.contains("OVR-2025-2000"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.oceanview.dao;
+
+import com.oceanview.model.Room;
+import org.junit.Before;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.*;
+
+/**
+ * RoomCatalogCacheTest - Unit tests for the room catalog cache
+ * Uses an in-memory loader - No database required
+ */
+public class RoomCatalogCacheTest {
+
+    private RoomCatalogCache cache;
+    private AtomicInteger loads;
+    private List<Room> rooms;
+
+    @Before
+    public void setUp() {
+        cache = new RoomCatalogCache();
+        loads = new AtomicInteger();
+        rooms = new ArrayList<>();
+        rooms.add(new Room(1, "101", "Single", 5000.00, "Available", "Garden view"));
+        rooms.add(new Room(2, "102", "Single", 5000.00, "Occupied", "Garden view"));
+        rooms.add(new Room(4, "201", "Double", 8000.00, "Available", "Sea view"));
+    }
+
+    private RoomCatalogCache.Catalog read() throws Exception {
+        return cache.get(() -> {
+            loads.incrementAndGet();
+            return rooms;
+        });
+    }
+
+    @Test
+    public void testSecondReadIsAHit() throws Exception {
+        read();
+        read();
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testInvalidateForcesReload() throws Exception {
+        assertEquals(1, read().getAvailableRoomCount("Single"));
+
+        rooms.set(1, new Room(2, "102", "Single", 5000.00, "Available", "Garden view"));
+        cache.invalidate();
+
+        assertEquals(2, read().getAvailableRoomCount("Single"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testCatalogQueries() throws Exception {
+        RoomCatalogCache.Catalog catalog = read();
+
+        assertEquals(3, catalog.getTotalRoomCount());
+        assertEquals(1, catalog.getOccupiedRoomCount());
+        assertEquals("201", catalog.getRoomById(4).getRoomNumber());
+        assertNull(catalog.getRoomById(99));
+        assertEquals(2, catalog.getRoomTypes().size());
+        assertEquals("Double", catalog.getRoomTypes().get(0));
+    }
+
+    @Test
+    public void testReturnedRoomsAreCopies() throws Exception {
+        read().getRoomById(1).setStatus("Occupied");
+
+        assertEquals("Available", read().getRoomById(1).getStatus());
+    }
+}
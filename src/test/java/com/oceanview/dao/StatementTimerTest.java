@@ -0,0 +1,113 @@
+package com.oceanview.dao;
+
+import org.junit.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for StatementTimer, QueryDeadline, QueryStats and RequestQueryLog
+ */
+public class StatementTimerTest {
+
+    private static QueryStats.SqlStats statsFor(String sql) {
+        for (QueryStats.SqlStats stats : QueryStats.getInstance().getTopStatements(Integer.MAX_VALUE)) {
+            if (stats.getSql().equals(sql)) {
+                return stats;
+            }
+        }
+        return null;
+    }
+
+    @Test
+    public void testPreparedStatementExecutionsAreTimedBySql() throws SQLException {
+        PreparedStatement real = mock(PreparedStatement.class);
+        when(real.executeQuery()).thenReturn(mock(ResultSet.class));
+        PreparedStatement timed = (PreparedStatement) StatementTimer.wrap(real,
+            "SELECT * FROM timer_test\n  WHERE id = ?", PreparedStatement.class);
+
+        timed.setInt(1, 7);
+        timed.executeQuery();
+        timed.executeQuery();
+
+        verify(real).setInt(1, 7);
+        QueryStats.SqlStats stats = statsFor("SELECT * FROM timer_test WHERE id = ?");
+        assertNotNull(stats);
+        assertEquals(2, stats.getLatency().getCount());
+        assertEquals(0, stats.getErrorCount());
+    }
+
+    @Test
+    public void testFailedExecutionIsCountedAndRethrown() throws SQLException {
+        PreparedStatement real = mock(PreparedStatement.class);
+        when(real.executeUpdate()).thenThrow(new SQLException("boom"));
+        PreparedStatement timed = (PreparedStatement) StatementTimer.wrap(real,
+            "UPDATE timer_fail SET x = ?", PreparedStatement.class);
+
+        try {
+            timed.executeUpdate();
+            fail("Expected SQLException");
+        } catch (SQLException e) {
+            assertEquals("boom", e.getMessage());
+        }
+        assertEquals(1, statsFor("UPDATE timer_fail SET x = ?").getErrorCount());
+    }
+
+    @Test
+    public void testPlainStatementUsesSqlArgument() throws SQLException {
+        Statement timed = (Statement) StatementTimer.wrap(mock(Statement.class), null, Statement.class);
+
+        timed.execute("DELETE FROM timer_plain");
+
+        assertEquals(1, statsFor("DELETE FROM timer_plain").getLatency().getCount());
+    }
+
+    @Test
+    public void testQueryDeadlineSetsQueryTimeout() throws Exception {
+        PreparedStatement real = mock(PreparedStatement.class);
+        PreparedStatement timed = (PreparedStatement) StatementTimer.wrap(real,
+            "SELECT 1 FROM timer_deadline", PreparedStatement.class);
+
+        timed.executeQuery();
+        verify(real, never()).setQueryTimeout(anyInt());
+
+        QueryDeadline.call(System.nanoTime() + TimeUnit.SECONDS.toNanos(3), timed::executeQuery);
+        verify(real).setQueryTimeout(3);
+    }
+
+    @Test
+    public void testPassedQueryDeadlineFailsWithoutExecuting() throws Exception {
+        PreparedStatement real = mock(PreparedStatement.class);
+        PreparedStatement timed = (PreparedStatement) StatementTimer.wrap(real,
+            "SELECT 1 FROM timer_late", PreparedStatement.class);
+
+        try {
+            QueryDeadline.call(System.nanoTime() - 1, timed::executeQuery);
+            fail("Expected SQLTimeoutException");
+        } catch (SQLTimeoutException e) {
+            verify(real, never()).executeQuery();
+        }
+    }
+
+    @Test
+    public void testRequestQueryLogCountsStatementsInRequest() throws SQLException {
+        PreparedStatement timed = (PreparedStatement) StatementTimer.wrap(mock(PreparedStatement.class),
+            "SELECT 1 FROM timer_request", PreparedStatement.class);
+
+        timed.executeQuery();
+        RequestQueryLog.begin();
+        timed.executeQuery();
+        timed.executeQuery();
+        timed.executeQuery();
+
+        assertEquals(3, RequestQueryLog.end("/test"));
+        assertEquals(0, RequestQueryLog.end("/test"));
+    }
+}
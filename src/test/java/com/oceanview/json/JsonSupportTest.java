@@ -0,0 +1,103 @@
+package com.oceanview.json;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.oceanview.model.Bill;
+import com.oceanview.model.Projection;
+import com.oceanview.model.Reservation;
+import com.oceanview.model.Room;
+import com.oceanview.model.User;
+import org.junit.Test;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import static org.junit.Assert.*;
+
+/**
+ * JsonSupportTest - Unit tests for the shared Gson configuration
+ * Pure JUnit 4 - No database required
+ */
+public class JsonSupportTest {
+
+    private final Gson gson = JsonSupport.gsonBuilder().create();
+
+    @Test
+    public void testLocalDateIsWrittenAsIsoString() {
+        Reservation reservation = new Reservation();
+        reservation.setCheckInDate(LocalDate.of(2025, 7, 15));
+
+        String json = gson.toJson(reservation);
+
+        assertTrue(json, json.contains("\"checkInDate\":\"2025-07-15\""));
+        assertFalse(json, json.contains("checkOutDate"));
+    }
+
+    @Test
+    public void testLocalDateRoundTrip() {
+        Reservation reservation = new Reservation();
+        reservation.setCheckOutDate(LocalDate.of(2024, 2, 29));
+
+        Reservation read = gson.fromJson(gson.toJson(reservation), Reservation.class);
+
+        assertEquals(LocalDate.of(2024, 2, 29), read.getCheckOutDate());
+        assertNull(read.getCheckInDate());
+    }
+
+    // The hand-written adapters must write what reflective Gson wrote
+    private final Gson reflective = new GsonBuilder()
+        .setDateFormat(JsonSupport.TIMESTAMP_FORMAT)
+        .registerTypeAdapter(LocalDate.class, new LocalDateAdapter().nullSafe())
+        .create();
+
+    @Test
+    public void testReservationMatchesReflectiveOutput() {
+        Reservation r = new Reservation("Kamal Silva", "45 Galle Road", "0771234567", 4, "Double",
+            LocalDate.of(2025, 7, 15), LocalDate.of(2025, 7, 18), 1);
+        r.setReservationId(12);
+        r.setReservationNumber("OVR-2025-0012");
+        r.setNumberOfNights(3);
+        r.setTotalCost(24000.0);
+        r.setStatus("Confirmed");
+        r.setCreatedAt(Timestamp.valueOf("2025-07-01 09:30:15"));
+        r.setRoomNumber("201");
+        r.setRatePerNight(8000.0);
+
+        assertEquals(reflective.toJson(r), gson.toJson(r));
+        assertEquals(gson.toJson(r), gson.toJson(gson.fromJson(gson.toJson(r), Reservation.class)));
+    }
+
+    @Test
+    public void testBillAndRoomMatchReflectiveOutput() {
+        Bill b = new Bill();
+        b.setBillId(3);
+        b.setReservationId(12);
+        b.setGuestName("Kamal Silva");
+        b.setCheckInDate(LocalDate.of(2025, 7, 15));
+        b.setTotalAmount(24000.0);
+        b.setBillDate(Timestamp.valueOf("2025-07-18 11:00:00"));
+        b.setPaymentStatus("UNPAID");
+        Room room = new Room(4, "201", "Double", 8000.0, "Available", null);
+
+        assertEquals(reflective.toJson(b), gson.toJson(b));
+        assertEquals(reflective.toJson(room), gson.toJson(room));
+    }
+
+    @Test
+    public void testUserPasswordIsNeverWritten() {
+        User user = new User(1, "admin", "secret-hash", "Administrator", "admin", null);
+
+        String json = gson.toJson(user);
+
+        assertFalse(json, json.contains("password"));
+        assertFalse(json, json.contains("secret-hash"));
+        assertTrue(json, json.contains("\"username\":\"admin\""));
+    }
+
+    @Test
+    public void testProjectionLimitsWrittenFields() {
+        Room room = new Room(4, "201", "Double", 8000.0, "Available", "Sea view");
+        Projection fields = Projection.parse("roomId,ratePerNight", RoomAdapter.FIELDS);
+
+        assertEquals("{\"roomId\":4,\"ratePerNight\":8000.0}", JsonSupport.gson(fields).toJson(room));
+        assertSame(JsonSupport.gson(fields), JsonSupport.gson(Projection.parse("ratePerNight,roomId", RoomAdapter.FIELDS)));
+    }
+}
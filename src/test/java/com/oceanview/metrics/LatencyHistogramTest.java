@@ -0,0 +1,78 @@
+package com.oceanview.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * LatencyHistogramTest - Unit tests for LatencyHistogram and MetricsRegistry
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketsAreContiguous() {
+        for (long v = 0; v < 100_000; v++) {
+            int index = LatencyHistogram.bucketIndex(v);
+            assertTrue("value " + v, v <= LatencyHistogram.bucketUpperBound(index));
+            if (index > 0) {
+                assertTrue("value " + v, v > LatencyHistogram.bucketUpperBound(index - 1));
+            }
+        }
+    }
+
+    @Test
+    public void testQuantilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int ms = 1; ms <= 1000; ms++) {
+            histogram.recordNanos(ms * 1_000_000L);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMaxMicros());
+        assertWithin(500_000, histogram.getValueAtQuantile(0.5));
+        assertWithin(950_000, histogram.getValueAtQuantile(0.95));
+        assertWithin(990_000, histogram.getValueAtQuantile(0.99));
+        assertEquals(1_000_000, histogram.getValueAtQuantile(1.0));
+    }
+
+    @Test
+    public void testEmptyHistogram() {
+        assertEquals(0, new LatencyHistogram().getValueAtQuantile(0.99));
+    }
+
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.recordNanos(i * 1000L);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(9_999, histogram.getMaxMicros());
+    }
+
+    @Test
+    public void testRegistryCapsEndpointCount() {
+        MetricsRegistry registry = new MetricsRegistry();
+        for (int i = 0; i < MetricsRegistry.MAX_ENDPOINTS + 50; i++) {
+            registry.record("/reservation?action=made-up-" + i, 1_000_000, false);
+        }
+
+        assertEquals(MetricsRegistry.MAX_ENDPOINTS + 1, registry.getEndpoints().size());
+        assertEquals(50, registry.endpoint(MetricsRegistry.OTHER_KEY).getRequestCount());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue("expected ~" + expected + " but was " + actual,
+            actual >= expected && actual <= expected * 1.125);
+    }
+}
@@ -0,0 +1,42 @@
+package com.oceanview.model;
+
+import org.junit.Test;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import static org.junit.Assert.*;
+
+/**
+ * ProjectionTest - Unit tests for ?fields= parsing
+ * Pure JUnit 4 - No database required
+ */
+public class ProjectionTest {
+
+    private static final Set<String> ALLOWED =
+        new HashSet<>(Arrays.asList("roomId", "roomNumber", "ratePerNight", "description"));
+
+    @Test
+    public void testMissingOrBlankMeansAll() {
+        assertSame(Projection.ALL, Projection.parse(null, ALLOWED));
+        assertSame(Projection.ALL, Projection.parse(" ", ALLOWED));
+        assertSame(Projection.ALL, Projection.parse(",,", ALLOWED));
+        assertTrue(Projection.ALL.includes("anything"));
+    }
+
+    @Test
+    public void testSelectedFields() {
+        Projection fields = Projection.parse(" roomNumber, roomId ,roomId", ALLOWED);
+
+        assertFalse(fields.isAll());
+        assertTrue(fields.includes("roomId"));
+        assertTrue(fields.includes("roomNumber"));
+        assertFalse(fields.includes("description"));
+        assertTrue(fields.includesAny("description", "roomId"));
+        assertEquals("roomId,roomNumber", fields.key());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownFieldIsRejected() {
+        Projection.parse("roomId,password", ALLOWED);
+    }
+}
@@ -1,6 +1,7 @@
 package com.oceanview.model;
 
 import org.junit.Test;
+import java.time.LocalDate;
 import static org.junit.Assert.*;
 
 /**
@@ -19,8 +20,8 @@ public class ReservationModelTest {
         reservation.setAddress("45 Galle Road, Colombo");
         reservation.setContactNumber("0771234567");
         reservation.setRoomType("Double");
-        reservation.setCheckInDate("2025-07-15");
-        reservation.setCheckOutDate("2025-07-18");
+        reservation.setCheckInDate(LocalDate.of(2025, 7, 15));
+        reservation.setCheckOutDate(LocalDate.of(2025, 7, 18));
 
         // Assert
         assertEquals("OVR-2025-0001", 
@@ -31,6 +32,8 @@ public class ReservationModelTest {
             reservation.getContactNumber());
         assertEquals("Double", 
             reservation.getRoomType());
+        assertEquals(LocalDate.of(2025, 7, 15),
+            reservation.getCheckInDate());
     }
 
     @Test
@@ -42,8 +45,8 @@ public class ReservationModelTest {
             "0771234567",
             1,
             "Single",
-            "2025-07-20",
-            "2025-07-25",
+            LocalDate.of(2025, 7, 20),
+            LocalDate.of(2025, 7, 25),
             1
         );
 
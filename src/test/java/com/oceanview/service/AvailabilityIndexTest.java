@@ -0,0 +1,81 @@
+package com.oceanview.service;
+
+import com.oceanview.model.Reservation;
+import org.junit.Before;
+import org.junit.Test;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.*;
+
+/**
+ * AvailabilityIndexTest - Unit tests for the in-memory availability index
+ * Pure JUnit 4 - No database required
+ */
+public class AvailabilityIndexTest {
+
+    private AvailabilityIndex index;
+
+    @Before
+    public void setUp() {
+        index = new AvailabilityIndex();
+
+        List<Reservation> confirmed = new ArrayList<>();
+        confirmed.add(stay(1, 4, "2025-07-15", "2025-07-18"));
+        confirmed.add(stay(2, 5, "2025-08-01", "2025-08-03"));
+        index.load(confirmed);
+    }
+
+    @Test
+    public void testOverlappingDatesAreUnavailable() {
+        assertFalse(index.isAvailable(4, date("2025-07-14"), date("2025-07-16")));
+        assertFalse(index.isAvailable(4, date("2025-07-17"), date("2025-07-20")));
+        assertFalse(index.isAvailable(4, date("2025-07-10"), date("2025-07-25")));
+    }
+
+    @Test
+    public void testBackToBackStaysAreAvailable() {
+        // Check-out day is free for the next guest
+        assertTrue(index.isAvailable(4, date("2025-07-18"), date("2025-07-20")));
+        assertTrue(index.isAvailable(4, date("2025-07-12"), date("2025-07-15")));
+    }
+
+    @Test
+    public void testOtherRoomsAreUnaffected() {
+        assertTrue(index.isAvailable(1, date("2025-07-15"), date("2025-07-18")));
+    }
+
+    @Test
+    public void testAddAndRemoveStay() {
+        index.addStay(3, 1, date("2025-09-10"), date("2025-09-12"));
+        assertFalse(index.isAvailable(1, date("2025-09-11"), date("2025-09-13")));
+
+        index.removeStay(3);
+        assertTrue(index.isAvailable(1, date("2025-09-11"), date("2025-09-13")));
+        assertEquals(2, index.getStayCount());
+    }
+
+    @Test
+    public void testRemoveKeepsOverlappingLegacyStay() {
+        index.addStay(6, 5, date("2025-08-02"), date("2025-08-05"));
+        index.removeStay(6);
+
+        // Night of 2025-08-02 still belongs to reservation 2
+        assertFalse(index.isAvailable(5, date("2025-08-02"), date("2025-08-03")));
+        assertTrue(index.isAvailable(5, date("2025-08-03"), date("2025-08-05")));
+    }
+
+    private Reservation stay(int id, int roomId, String checkIn, String checkOut) {
+        Reservation r = new Reservation();
+        r.setReservationId(id);
+        r.setRoomId(roomId);
+        r.setCheckInDate(date(checkIn));
+        r.setCheckOutDate(date(checkOut));
+        r.setStatus("Confirmed");
+        return r;
+    }
+
+    private static LocalDate date(String isoDate) {
+        return LocalDate.parse(isoDate);
+    }
+}
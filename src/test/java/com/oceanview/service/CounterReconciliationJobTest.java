@@ -0,0 +1,64 @@
+package com.oceanview.service;
+
+import com.oceanview.dao.CounterDAO;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CounterReconciliationJobTest - Unit tests for CounterReconciliationJob
+ * Uses Mockito to mock CounterDAO
+ * No database required
+ */
+public class CounterReconciliationJobTest {
+
+    private CounterDAO mockCounterDAO;
+    private CounterReconciliationJob job;
+
+    @Before
+    public void setUp() {
+        mockCounterDAO = Mockito.mock(CounterDAO.class);
+        job = new CounterReconciliationJob() {
+            {
+                this.counterDAO = mockCounterDAO;
+            }
+        };
+    }
+
+    @Test
+    public void testRunOnce_NoDrift() throws SQLException {
+        when(mockCounterDAO.reconcile()).thenReturn(
+            new CounterDAO.Reconciliation(counters(12, 3500.0), counters(12, 3500.0)));
+
+        assertEquals(0, job.runOnce());
+    }
+
+    @Test
+    public void testRunOnce_CountsDriftedCounters() throws SQLException {
+        when(mockCounterDAO.reconcile()).thenReturn(
+            new CounterDAO.Reconciliation(counters(10, 3500.0), counters(12, 4000.0)));
+
+        assertEquals(2, job.runOnce());
+    }
+
+    @Test
+    public void testRunOnce_Failure() throws SQLException {
+        when(mockCounterDAO.reconcile()).thenThrow(new SQLException("connection refused"));
+
+        assertEquals(-1, job.runOnce());
+    }
+
+    private static Map<String, Double> counters(double reservations, double revenue) {
+        Map<String, Double> counters = new LinkedHashMap<>();
+        counters.put(CounterDAO.RESERVATIONS_TOTAL, reservations);
+        counters.put(CounterDAO.BILLS_REVENUE, revenue);
+        return counters;
+    }
+}
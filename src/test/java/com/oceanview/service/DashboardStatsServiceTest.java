@@ -0,0 +1,85 @@
+package com.oceanview.service;
+
+import com.oceanview.dao.DashboardDAO;
+import com.oceanview.model.DashboardStats;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DashboardStatsServiceTest - Unit tests for DashboardStatsService
+ * Uses Mockito to mock DashboardDAO
+ * No database required
+ */
+public class DashboardStatsServiceTest {
+
+    private DashboardDAO mockDashboardDAO;
+    private DashboardStatsService statsService;
+
+    @Before
+    public void setUp() {
+        mockDashboardDAO = Mockito.mock(DashboardDAO.class);
+        statsService = new DashboardStatsService() {
+            {
+                this.dashboardDAO = mockDashboardDAO;
+            }
+        };
+    }
+
+    private static DashboardStats statsWithRooms(int totalRooms) {
+        DashboardStats stats = new DashboardStats();
+        stats.setTotalRooms(totalRooms);
+        return stats;
+    }
+
+    @Test
+    public void testSnapshotIsReusedUntilInvalidated() {
+        when(mockDashboardDAO.getDashboardStats())
+            .thenReturn(statsWithRooms(10), statsWithRooms(11));
+
+        assertEquals(10, statsService.getStats().getTotalRooms());
+        assertEquals(10, statsService.getStats().getTotalRooms());
+        verify(mockDashboardDAO, times(1)).getDashboardStats();
+
+        statsService.invalidate();
+        assertEquals(11, statsService.getStats().getTotalRooms());
+        verify(mockDashboardDAO, times(2)).getDashboardStats();
+    }
+
+    @Test
+    public void testFailedRefreshAfterInvalidateKeepsLastGoodSnapshot() {
+        when(mockDashboardDAO.getDashboardStats())
+            .thenReturn(statsWithRooms(10), (DashboardStats) null);
+
+        statsService.getStats();
+        statsService.invalidate();
+
+        assertEquals(10, statsService.getStats().getTotalRooms());
+        assertEquals(10, statsService.findStats().getTotalRooms());
+    }
+
+    @Test
+    public void testFailedRefreshIsNotRetriedDuringBackoff() {
+        when(mockDashboardDAO.getDashboardStats())
+            .thenReturn(statsWithRooms(10), null, statsWithRooms(12));
+
+        statsService.getStats();
+        statsService.invalidate();
+        assertEquals(10, statsService.getStats().getTotalRooms());
+        assertEquals(10, statsService.getStats().getTotalRooms());
+        assertEquals(10, statsService.getStats().getTotalRooms());
+
+        verify(mockDashboardDAO, times(2)).getDashboardStats();
+    }
+
+    @Test
+    public void testNeverLoadedIsNullFromFindStats() {
+        when(mockDashboardDAO.getDashboardStats()).thenReturn(null);
+
+        assertNull(statsService.findStats());
+        assertEquals(0, statsService.getStats().getTotalRooms());
+    }
+}
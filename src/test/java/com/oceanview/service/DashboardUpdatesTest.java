@@ -0,0 +1,188 @@
+package com.oceanview.service;
+
+import com.oceanview.model.DashboardStats;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DashboardUpdatesTest - Unit tests for DashboardUpdates
+ * Uses Mockito to mock DashboardStatsService
+ * No database or servlet container required
+ */
+public class DashboardUpdatesTest {
+
+    private DashboardStatsService mockStatsService;
+    private DashboardUpdates updates;
+
+    @Before
+    public void setUp() {
+        mockStatsService = Mockito.mock(DashboardStatsService.class);
+        updates = new DashboardUpdates() {
+            {
+                this.dashboardStatsService = mockStatsService;
+            }
+        };
+    }
+
+    @After
+    public void tearDown() {
+        updates.stop();
+    }
+
+    @Test
+    public void testSubscribe_SendsSnapshot() {
+        when(mockStatsService.getStats()).thenReturn(stats(3, 2500.0));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        updates.subscribe(subscriber);
+
+        assertEquals(1, updates.getSubscriberCount());
+        assertEquals("snapshot", subscriber.events.get(0));
+        assertEquals(3, subscriber.payloads.get(0).get("single"));
+    }
+
+    @Test
+    public void testFlush_SendsOnlyChangedCounters() {
+        when(mockStatsService.getStats()).thenReturn(stats(3, 2500.0));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        updates.subscribe(subscriber);
+        updates.flush();
+
+        when(mockStatsService.getStats()).thenReturn(stats(2, 2500.0));
+        updates.flush();
+
+        Map<String, Object> delta = subscriber.payloads.get(subscriber.payloads.size() - 1);
+        assertEquals("stats", subscriber.events.get(subscriber.events.size() - 1));
+        assertEquals(2, delta.get("single"));
+        assertFalse(delta.containsKey("totalRevenue"));
+    }
+
+    @Test
+    public void testFlush_NothingChanged() {
+        when(mockStatsService.getStats()).thenReturn(stats(3, 2500.0));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        updates.subscribe(subscriber);
+        updates.flush();
+        int sent = subscriber.events.size();
+
+        updates.flush();
+
+        assertEquals(sent, subscriber.events.size());
+    }
+
+    @Test
+    public void testFlush_DropsDisconnectedSubscriber() {
+        when(mockStatsService.getStats()).thenReturn(stats(3, 2500.0));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        updates.subscribe(subscriber);
+
+        subscriber.connected = false;
+        when(mockStatsService.getStats()).thenReturn(stats(1, 2500.0));
+        updates.flush();
+
+        assertEquals(0, updates.getSubscriberCount());
+        assertTrue(subscriber.closed);
+    }
+
+    @Test
+    public void testSubscribe_StartsFromLastPushedCounters() {
+        when(mockStatsService.getStats()).thenReturn(stats(3, 2500.0));
+        updates.subscribe(new RecordingSubscriber());
+        updates.flush();
+
+        // Not pushed yet: the new stream starts from what everyone else has
+        when(mockStatsService.getStats()).thenReturn(stats(2, 2500.0));
+        RecordingSubscriber late = new RecordingSubscriber();
+        updates.subscribe(late);
+        assertEquals(3, late.payloads.get(0).get("single"));
+
+        // ...and the next push brings it up to date with the others
+        updates.flush();
+        assertEquals("stats", late.events.get(1));
+        assertEquals(2, late.payloads.get(1).get("single"));
+    }
+
+    @Test
+    public void testSubscribe_NotBlockedBySlowSubscriberDuringFlush() throws Exception {
+        when(mockStatsService.getStats()).thenReturn(stats(3, 2500.0));
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSubscriber slow = new RecordingSubscriber() {
+            @Override
+            public boolean send(String event, Map<String, Object> data) {
+                if ("stats".equals(event)) {
+                    sending.countDown();
+                    awaitQuietly(release);
+                }
+                return super.send(event, data);
+            }
+        };
+        updates.subscribe(slow);
+
+        when(mockStatsService.getStats()).thenReturn(stats(1, 2500.0));
+        Thread flusher = new Thread(updates::flush);
+        flusher.start();
+        try {
+            assertTrue(sending.await(2, TimeUnit.SECONDS));
+            RecordingSubscriber other = new RecordingSubscriber();
+            updates.subscribe(other);
+            assertEquals("snapshot", other.events.get(0));
+        } finally {
+            release.countDown();
+            flusher.join();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static DashboardStats stats(int singleAvail, double revenue) {
+        DashboardStats stats = new DashboardStats();
+        stats.setSingleAvail(singleAvail);
+        stats.setTotalRevenue(revenue);
+        return stats;
+    }
+
+    private static class RecordingSubscriber implements DashboardUpdates.Subscriber {
+        final List<String> events = new ArrayList<>();
+        final List<Map<String, Object>> payloads = new ArrayList<>();
+        boolean connected = true;
+        boolean closed;
+
+        @Override
+        public boolean send(String event, Map<String, Object> data) {
+            if (!connected) {
+                return false;
+            }
+            events.add(event);
+            payloads.add(data);
+            return true;
+        }
+
+        @Override
+        public boolean heartbeat() {
+            return connected;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
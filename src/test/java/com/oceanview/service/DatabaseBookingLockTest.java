@@ -0,0 +1,90 @@
+package com.oceanview.service;
+
+import com.oceanview.dao.AdvisoryLockDAO;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DatabaseBookingLockTest - Unit tests for DatabaseBookingLock
+ * Uses Mockito to mock AdvisoryLockDAO
+ * No database required
+ */
+public class DatabaseBookingLockTest {
+
+    private AdvisoryLockDAO mockAdvisoryLockDAO;
+    private RoomLockManager localLocks;
+    private DatabaseBookingLock bookingLock;
+
+    @Before
+    public void setUp() {
+        mockAdvisoryLockDAO = Mockito.mock(AdvisoryLockDAO.class);
+        localLocks = new RoomLockManager(16, 50);
+        bookingLock = new DatabaseBookingLock(localLocks) {
+            {
+                this.advisoryLockDAO = mockAdvisoryLockDAO;
+            }
+        };
+    }
+
+    @Test
+    public void testLockTakesNamedLockForRoom() {
+        AdvisoryLockDAO.Lock shared = Mockito.mock(AdvisoryLockDAO.Lock.class);
+        when(mockAdvisoryLockDAO.acquire("oceanview.room.5", 1)).thenReturn(shared);
+
+        BookingLock.Held held = bookingLock.lock(5);
+        assertNotNull(held);
+        held.close();
+
+        verify(shared).close();
+        assertEquals(1L, bookingLock.getStats().get("acquired"));
+    }
+
+    @Test
+    public void testLocalStripeHeldUntilClose() throws Exception {
+        when(mockAdvisoryLockDAO.acquire(anyString(), anyInt()))
+            .thenReturn(Mockito.mock(AdvisoryLockDAO.Lock.class));
+
+        BookingLock.Held held = bookingLock.lock(5);
+        assertFalse(freeForOtherThreads(5));
+
+        held.close();
+        assertTrue(freeForOtherThreads(5));
+    }
+
+    @Test
+    public void testDatabaseTimeoutReleasesLocalStripe() throws Exception {
+        when(mockAdvisoryLockDAO.acquire(anyString(), anyInt())).thenReturn(null);
+
+        assertNull(bookingLock.lock(5));
+        assertEquals(1L, bookingLock.getStats().get("timeouts"));
+        assertTrue(freeForOtherThreads(5));
+    }
+
+    @Test
+    public void testConfiguredType() {
+        assertTrue(BookingLocks.create("local") instanceof RoomLockManager);
+        assertTrue(BookingLocks.create("mysql") instanceof DatabaseBookingLock);
+        assertTrue(BookingLocks.create("bogus") instanceof RoomLockManager);
+    }
+
+    /**
+     * Whether another thread can take the room's local stripe right now
+     */
+    private boolean freeForOtherThreads(int roomId) throws InterruptedException {
+        AtomicBoolean locked = new AtomicBoolean();
+        Thread t = new Thread(() -> {
+            try (RoomLockManager.RoomLock lock = localLocks.lock(roomId)) {
+                locked.set(lock != null);
+            }
+        });
+        t.start();
+        t.join();
+        return locked.get();
+    }
+}
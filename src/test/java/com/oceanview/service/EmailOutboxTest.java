@@ -0,0 +1,156 @@
+package com.oceanview.service;
+
+import com.oceanview.dao.EmailLogAppender;
+import com.oceanview.dao.EmailOutboxDAO;
+import com.oceanview.model.EmailMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import javax.mail.MessagingException;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * EmailOutboxTest - Unit tests for EmailOutbox
+ * Uses Mockito to mock DAOs and a fake MailSender in place of SMTP
+ * No database or mail server required
+ */
+public class EmailOutboxTest {
+
+    private EmailOutboxDAO mockOutboxDAO;
+    private EmailLogAppender mockEmailLog;
+    private FakeMailSender mailSender;
+    private EmailOutbox outbox;
+
+    @Before
+    public void setUp() {
+        mockOutboxDAO = Mockito.mock(EmailOutboxDAO.class);
+        mockEmailLog = Mockito.mock(EmailLogAppender.class);
+        when(mockOutboxDAO.enqueue(any(EmailMessage.class))).thenAnswer(invocation -> {
+            ((EmailMessage) invocation.getArgument(0)).setOutboxId(42);
+            return true;
+        });
+        when(mockOutboxDAO.claim(anyLong(), anyInt())).thenReturn(true);
+        mailSender = new FakeMailSender();
+        outbox = new EmailOutbox(mockOutboxDAO, mockEmailLog, mailSender, 1);
+    }
+
+    @After
+    public void tearDown() {
+        outbox.stop();
+    }
+
+    @Test
+    public void testEnqueue_SentInBackground() throws Exception {
+        mailSender.expect(1);
+
+        assertTrue(outbox.enqueue("guest@example.com", "Hello", "Body"));
+
+        assertTrue(mailSender.await());
+        verify(mockOutboxDAO, timeout(1000)).markSent(42, 1);
+        verify(mockEmailLog, timeout(1000)).append("guest@example.com", "Hello", "Body", "SENT");
+    }
+
+    @Test
+    public void testEnqueue_NoRecipient() {
+        assertFalse(outbox.enqueue("  ", "Hello", "Body"));
+        verify(mockOutboxDAO, never()).enqueue(any(EmailMessage.class));
+    }
+
+    @Test
+    public void testRetry_ThenSuccess() throws Exception {
+        mailSender.failures.set(2);
+        mailSender.expect(3);
+
+        outbox.enqueue("guest@example.com", "Hello", "Body");
+
+        assertTrue(mailSender.await());
+        verify(mockOutboxDAO, timeout(1000)).markRetry(eq(42L), eq(1), any(), eq("SMTP down"));
+        verify(mockOutboxDAO, timeout(1000)).markRetry(eq(42L), eq(2), any(), eq("SMTP down"));
+        verify(mockOutboxDAO, timeout(1000)).markSent(42, 3);
+    }
+
+    @Test
+    public void testDeadLetter_AfterMaxAttempts() throws Exception {
+        mailSender.failures.set(Integer.MAX_VALUE);
+        mailSender.expect(EmailOutbox.MAX_ATTEMPTS);
+
+        outbox.enqueue("guest@example.com", "Hello", "Body");
+
+        assertTrue(mailSender.await());
+        verify(mockOutboxDAO, timeout(1000)).markDead(42, EmailOutbox.MAX_ATTEMPTS, "SMTP down");
+        verify(mockOutboxDAO, never()).markSent(anyLong(), anyInt());
+        verify(mockEmailLog, timeout(1000)).append("guest@example.com", "Hello", "Body", "FAILED");
+    }
+
+    @Test
+    public void testClaimedElsewhere_NotSent() throws Exception {
+        when(mockOutboxDAO.claim(anyLong(), anyInt())).thenReturn(false);
+        mailSender.expect(1);
+
+        outbox.enqueue("guest@example.com", "Hello", "Body");
+
+        verify(mockOutboxDAO, timeout(1000)).claim(eq(42L), anyInt());
+        assertFalse(mailSender.await(200));
+        verify(mockOutboxDAO, never()).markSent(anyLong(), anyInt());
+    }
+
+    @Test
+    public void testSweep_SkipsMessageStillBeingMarked() throws Exception {
+        // The sweep runs while markSent is in flight: the row still looks PENDING
+        CountDownLatch marking = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        EmailMessage pending = new EmailMessage("guest@example.com", "Hello", "Body");
+        pending.setOutboxId(42);
+        when(mockOutboxDAO.getDueMessages(anyInt())).thenReturn(Collections.singletonList(pending));
+        when(mockOutboxDAO.markSent(42, 1)).thenAnswer(invocation -> {
+            marking.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        mailSender.expect(2);
+
+        outbox.enqueue("guest@example.com", "Hello", "Body");
+        assertTrue(marking.await(5, TimeUnit.SECONDS));
+        outbox.sweep();
+        release.countDown();
+
+        assertFalse(mailSender.await(300));
+        verify(mockOutboxDAO, times(1)).claim(eq(42L), anyInt());
+    }
+
+    /**
+     * Local stand-in for SMTP: fails the first N sends
+     */
+    private static class FakeMailSender implements MailSender {
+        final AtomicInteger failures = new AtomicInteger();
+        private CountDownLatch attempts;
+
+        void expect(int count) {
+            attempts = new CountDownLatch(count);
+        }
+
+        boolean await() throws InterruptedException {
+            return await(5000);
+        }
+
+        boolean await(long millis) throws InterruptedException {
+            return attempts.await(millis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void send(String toEmail, String subject, String body) throws MessagingException {
+            attempts.countDown();
+            if (failures.getAndDecrement() > 0) {
+                throw new MessagingException("SMTP down");
+            }
+        }
+    }
+}
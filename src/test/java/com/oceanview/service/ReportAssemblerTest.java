@@ -0,0 +1,96 @@
+package com.oceanview.service;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * ReportAssemblerTest - Unit tests for ReportAssembler
+ * No database required
+ */
+public class ReportAssemblerTest {
+
+    private ReportAssembler assembler;
+
+    @Before
+    public void setUp() {
+        assembler = new ReportAssembler(4, 300);
+    }
+
+    @After
+    public void tearDown() {
+        assembler.stop();
+    }
+
+    @Test
+    public void testQueriesRunConcurrently() {
+        // Each query waits until all three have started; run one by one they would time out
+        CountDownLatch started = new CountDownLatch(3);
+        ReportAssembler.Result result = assembler.newReport()
+            .add("a", () -> awaitOthers(started, "A"), "-")
+            .add("b", () -> awaitOthers(started, "B"), "-")
+            .add("c", () -> awaitOthers(started, "C"), "-")
+            .join();
+
+        assertTrue(result.isComplete());
+        assertEquals("A", result.get("a"));
+        assertEquals("B", result.get("b"));
+        assertEquals("C", result.get("c"));
+    }
+
+    @Test
+    public void testTimeoutUsesFallback() {
+        ReportAssembler.Result result = assembler.newReport()
+            .add("fast", () -> 42, 0)
+            .add("slow", () -> {
+                Thread.sleep(5000);
+                return 1;
+            }, -1)
+            .join();
+
+        assertFalse(result.isComplete());
+        assertEquals(Integer.valueOf(42), result.get("fast"));
+        assertEquals(Integer.valueOf(-1), result.get("slow"));
+        assertEquals(1, result.getMissing().size());
+        assertEquals(1L, assembler.getStats().get("timeouts"));
+    }
+
+    @Test
+    public void testFailureUsesFallback() {
+        ReportAssembler.Result result = assembler.newReport()
+            .add("ok", () -> "fine", "")
+            .add("broken", () -> {
+                throw new IllegalStateException("boom");
+            }, "fallback")
+            .join();
+
+        assertEquals("fine", result.get("ok"));
+        assertEquals("fallback", result.get("broken"));
+        assertEquals(java.util.Collections.singletonList("broken"), result.getMissing());
+        assertEquals(1L, assembler.getStats().get("partialReports"));
+    }
+
+    @Test
+    public void testNullResultUsesFallback() {
+        ReportAssembler.Result result = assembler.newReport()
+            .add("empty", () -> null, "fallback")
+            .join();
+
+        assertEquals("fallback", result.get("empty"));
+        assertFalse(result.isComplete());
+        assertEquals(1L, assembler.getStats().get("failures"));
+    }
+
+    private static String awaitOthers(CountDownLatch started, String value) throws InterruptedException {
+        started.countDown();
+        if (!started.await(2, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("queries did not overlap");
+        }
+        return value;
+    }
+}
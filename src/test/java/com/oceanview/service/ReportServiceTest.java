@@ -0,0 +1,63 @@
+package com.oceanview.service;
+
+import com.oceanview.dao.BillDAO;
+import com.oceanview.dao.ReservationDAO;
+import com.oceanview.dao.RoomDAO;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReportServiceTest - Unit tests for ReportService
+ * Uses Mockito to mock DAOs
+ * No database required
+ */
+public class ReportServiceTest {
+
+    private ReservationDAO mockReservationDAO;
+    private ReportService reportService;
+
+    @Before
+    public void setUp() {
+        mockReservationDAO = Mockito.mock(ReservationDAO.class);
+
+        reportService = new ReportService() {
+            {
+                this.reservationDAO = mockReservationDAO;
+                this.roomDAO = Mockito.mock(RoomDAO.class);
+                this.billDAO = Mockito.mock(BillDAO.class);
+            }
+        };
+    }
+
+    @Test
+    public void testStatusBreakdown_TotalsAndMissingStatuses() {
+        Map<String, Integer> byStatus = new HashMap<>();
+        byStatus.put("Confirmed", 7);
+        byStatus.put("Cancelled", 2);
+        when(mockReservationDAO.getReservationCountsByStatus()).thenReturn(byStatus);
+
+        Map<String, Integer> breakdown = reportService.getReservationStatusBreakdown();
+
+        assertEquals(Integer.valueOf(7), breakdown.get("Confirmed"));
+        assertEquals(Integer.valueOf(0), breakdown.get("Checked-Out"));
+        assertEquals(Integer.valueOf(2), breakdown.get("Cancelled"));
+        assertEquals(Integer.valueOf(9), breakdown.get("Total"));
+    }
+
+    @Test
+    public void testStatusBreakdown_Empty() {
+        when(mockReservationDAO.getReservationCountsByStatus()).thenReturn(new HashMap<>());
+
+        Map<String, Integer> breakdown = reportService.getReservationStatusBreakdown();
+
+        assertEquals(Integer.valueOf(0), breakdown.get("Total"));
+        assertEquals(Integer.valueOf(0), breakdown.get("Confirmed"));
+    }
+}
@@ -3,11 +3,14 @@ package com.oceanview.service;
 import com.oceanview.dao.ReservationDAO;
 import com.oceanview.dao.RoomDAO;
 import com.oceanview.dao.BillDAO;
+import com.oceanview.model.Projection;
 import com.oceanview.model.Reservation;
+import com.oceanview.model.ReservationPage;
 import com.oceanview.model.Room;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
+import java.time.LocalDate;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
@@ -75,6 +78,25 @@ public class ReservationServiceTest {
             .addReservation(any(Reservation.class));
     }
 
+    @Test
+    public void testCreateReservation_RoomLockTimeout() {
+        Room mockRoom = new Room();
+        mockRoom.setRoomId(1);
+        mockRoom.setStatus("Available");
+        when(mockRoomDAO.getRoomById(1)).thenReturn(mockRoom);
+
+        BookingLock busyLock = Mockito.mock(BookingLock.class);
+        when(busyLock.lock(1)).thenReturn(null);
+        reservationService.bookingLock = busyLock;
+
+        String result = reservationService.createReservation(
+            "Kamal Silva", "45 Galle Road, Colombo", "0771234567", "kamal@example.com",
+            "Double", 1, LocalDate.now().toString(), LocalDate.now().plusDays(2).toString(), 1);
+
+        assertEquals("The room is busy with another booking. Please try again.", result);
+        verify(mockReservationDAO, never()).addReservation(any(Reservation.class));
+    }
+
     @Test
     public void testCreateReservation_InvalidGuestName() {
         // Act
@@ -148,6 +170,43 @@ public class ReservationServiceTest {
         assertTrue(result.contains("not available"));
     }
 
+    @Test
+    public void testCreateReservation_OverlapUnderLock() throws Exception {
+        // Arrange
+        Room mockRoom = new Room();
+        mockRoom.setRoomId(1);
+        mockRoom.setStatus("Available");
+
+        when(mockRoomDAO.getRoomById(1)).thenReturn(mockRoom);
+        when(mockReservationDAO.lockRoomAndCountOverlaps(
+            eq(1), any(LocalDate.class), any(LocalDate.class))).thenReturn(1);
+
+        String today = java.time.LocalDate.now().toString();
+        String tomorrow = java.time.LocalDate.now()
+            .plusDays(2).toString();
+
+        // Act
+        String result = reservationService.createReservation(
+            "Kamal Silva",
+            "45 Galle Road, Colombo",
+            "0771234567",
+            "kamal@example.com",
+            "Double",
+            1,
+            today,
+            tomorrow,
+            1
+        );
+
+        // Assert
+        assertNotNull(result);
+        assertTrue(result.contains("already booked"));
+        verify(mockReservationDAO, never())
+            .generateReservationNumber();
+        verify(mockReservationDAO, never())
+            .addReservation(any(Reservation.class));
+    }
+
     @Test
     public void testGetReservationByNumber_Valid() {
         // Arrange
@@ -188,4 +247,120 @@ public class ReservationServiceTest {
         assertNull(result);
         verify(mockBillDAO, times(1)).markBillAsPaid(1, "CASH");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetReservationPage_HasMore() {
+        // Arrange - DAO returns limit + 1 rows
+        java.util.List<Reservation> rows = new java.util.ArrayList<>();
+        for (int id = 5; id >= 1; id--) {
+            Reservation r = new Reservation();
+            r.setReservationId(id);
+            r.setCreatedAt(new java.sql.Timestamp(1700000000000L + id * 1000L));
+            rows.add(r);
+        }
+        when(mockReservationDAO.getReservationPage(null, 0, null, null, null, 5, Projection.ALL))
+            .thenReturn(rows);
+
+        // Act
+        ReservationPage page = reservationService.getReservationPage(null, 4, null, null, null);
+
+        // Assert
+        assertEquals(4, page.getReservations().size());
+        assertTrue(page.isHasMore());
+        assertEquals("1700000002000_2", page.getNextCursor());
+    }
+
+    @Test
+    public void testGetReservationPage_CursorAndClamp() {
+        when(mockReservationDAO.getReservationPage(any(), anyInt(), any(), any(), any(), anyInt(), any()))
+            .thenReturn(new java.util.ArrayList<>());
+
+        ReservationPage page = reservationService.getReservationPage(
+            "1700000002000_2", 5000, "Confirmed", "2025-01-01", null);
+
+        assertFalse(page.isHasMore());
+        assertEquals(ReservationService.MAX_PAGE_SIZE, page.getLimit());
+        verify(mockReservationDAO).getReservationPage(
+            new java.sql.Timestamp(1700000002000L), 2, "Confirmed", "2025-01-01", null,
+            ReservationService.MAX_PAGE_SIZE + 1, Projection.ALL);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetReservationPage_InvalidCursor() {
+        reservationService.getReservationPage("not-a-cursor", 20, null, null, null);
+    }
+
+    private Reservation stay(String status, int version) {
+        Reservation stay = new Reservation();
+        stay.setReservationId(7);
+        stay.setRoomId(3);
+        stay.setStatus(status);
+        stay.setVersion(version);
+        return stay;
+    }
+
+    @Test
+    public void testUpdateReservationStatus_CheckOut() {
+        when(mockReservationDAO.getStayById(7)).thenReturn(stay("Confirmed", 2));
+        when(mockReservationDAO.updateReservationStatus(7, "Confirmed", 2, "Checked-Out"))
+            .thenReturn(true);
+
+        assertNull(reservationService.updateReservationStatus(7, "Checked-Out", 2));
+        verify(mockReservationDAO).updateReservationStatus(7, "Confirmed", 2, "Checked-Out");
+    }
+
+    @Test
+    public void testUpdateReservationStatus_FinalStatusRejected() {
+        when(mockReservationDAO.getStayById(7)).thenReturn(stay("Cancelled", 1));
+
+        String result = reservationService.updateReservationStatus(7, "Checked-Out");
+
+        assertEquals("Cannot change a Cancelled reservation to Checked-Out.", result);
+        verify(mockReservationDAO, never())
+            .updateReservationStatus(anyInt(), anyString(), anyInt(), anyString());
+    }
+
+    @Test
+    public void testUpdateReservationStatus_StaleVersion() {
+        when(mockReservationDAO.getStayById(7)).thenReturn(stay("Confirmed", 3));
+
+        String result = reservationService.updateReservationStatus(7, "Cancelled", 2);
+
+        assertTrue(result.startsWith("This reservation was updated by someone else"));
+        verify(mockReservationDAO, never())
+            .updateReservationStatus(anyInt(), anyString(), anyInt(), anyString());
+    }
+
+    @Test
+    public void testUpdateReservationStatus_LostRace() {
+        when(mockReservationDAO.getStayById(7))
+            .thenReturn(stay("Confirmed", 2), stay("Checked-Out", 3));
+        when(mockReservationDAO.updateReservationStatus(7, "Confirmed", 2, "Cancelled"))
+            .thenReturn(false);
+
+        String result = reservationService.updateReservationStatus(7, "Cancelled");
+
+        assertEquals("This reservation was updated by someone else (now Checked-Out). "
+            + "Please reload and try again.", result);
+    }
+
+    @Test
+    public void testUpdateReservationStatus_UnknownStatus() {
+        assertEquals("Invalid reservation status.",
+            reservationService.updateReservationStatus(7, "Occupied"));
+        assertFalse(ReservationService.canTransition("Checked-Out", "Confirmed"));
+        assertTrue(ReservationService.canTransition("Confirmed", "Cancelled"));
+    }
+
+    @Test
+    public void testValidateReservationFilters() {
+        reservationService.validateReservationFilters("Confirmed", "2025-01-01", " ");
+        reservationService.validateReservationFilters(null, null, null);
+        try {
+            reservationService.validateReservationFilters("Bogus", null, null);
+            fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("Invalid status: Bogus", e.getMessage());
+        }
+    }
+}
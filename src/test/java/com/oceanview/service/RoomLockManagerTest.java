@@ -0,0 +1,96 @@
+package com.oceanview.service;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class RoomLockManagerTest {
+
+    @Test
+    public void testStripeCountRoundedUpToPowerOfTwo() {
+        assertEquals(16, new RoomLockManager(16, 100).getStripeCount());
+        assertEquals(32, new RoomLockManager(17, 100).getStripeCount());
+        assertEquals(1, new RoomLockManager(1, 100).getStripeCount());
+    }
+
+    @Test
+    public void testSameRoomTimesOutWhileHeld() throws Exception {
+        RoomLockManager locks = new RoomLockManager(16, 50);
+        RoomLockManager.RoomLock held = locks.lock(7);
+        assertNotNull(held);
+
+        AtomicReference<RoomLockManager.RoomLock> other = new AtomicReference<>();
+        Thread t = new Thread(() -> other.set(locks.lock(7)));
+        t.start();
+        t.join();
+
+        assertNull(other.get());
+        assertEquals(1L, locks.getStats().get("timeouts"));
+        assertEquals(1L, locks.getStats().get("contended"));
+        held.close();
+    }
+
+    @Test
+    public void testSameRoomWaitsForRelease() throws Exception {
+        RoomLockManager locks = new RoomLockManager(16, 5000);
+        RoomLockManager.RoomLock held = locks.lock(3);
+
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread t = new Thread(() -> {
+            try (RoomLockManager.RoomLock lock = locks.lock(3)) {
+                assertNotNull(lock);
+                acquired.countDown();
+            }
+        });
+        t.start();
+
+        assertFalse(acquired.await(50, TimeUnit.MILLISECONDS));
+        held.close();
+        assertTrue(acquired.await(5, TimeUnit.SECONDS));
+        t.join();
+        assertEquals(2L, locks.getStats().get("acquired"));
+    }
+
+    @Test
+    public void testDifferentStripesDoNotBlock() throws Exception {
+        RoomLockManager locks = new RoomLockManager(16, 50);
+        int other = 2;
+        while (locks.stripe(other) == locks.stripe(1)) {
+            other++;
+        }
+        int otherRoom = other;
+
+        RoomLockManager.RoomLock held = locks.lock(1);
+        AtomicReference<Boolean> locked = new AtomicReference<>();
+        Thread t = new Thread(() -> {
+            try (RoomLockManager.RoomLock lock = locks.lock(otherRoom)) {
+                locked.set(lock != null);
+            }
+        });
+        t.start();
+        t.join();
+
+        assertTrue(locked.get());
+        held.close();
+        assertEquals(0L, locks.getStats().get("contended"));
+    }
+
+    @Test
+    public void testSequentialRoomsSpreadAcrossStripes() {
+        RoomLockManager locks = new RoomLockManager(64, 50);
+        boolean[] used = new boolean[64];
+        int distinct = 0;
+        for (int roomId = 1; roomId <= 64; roomId++) {
+            int s = locks.stripe(roomId);
+            if (!used[s]) {
+                used[s] = true;
+                distinct++;
+            }
+        }
+        assertTrue("only " + distinct + " stripes used", distinct >= 40);
+    }
+}
@@ -0,0 +1,130 @@
+package com.oceanview.service;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * SmtpMailSenderTest - Unit tests for SmtpMailSender
+ * Runs against a minimal in-process SMTP stand-in on a local port
+ * No mail server required
+ */
+public class SmtpMailSenderTest {
+
+    private ServerSocket server;
+    private Thread serverThread;
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger messages = new AtomicInteger();
+    private SmtpMailSender sender;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new ServerSocket(0);
+        serverThread = new Thread(this::acceptLoop, "fake-smtp");
+        serverThread.setDaemon(true);
+        serverThread.start();
+
+        System.setProperty("oceanview.smtp.host", "localhost");
+        System.setProperty("oceanview.smtp.port", String.valueOf(server.getLocalPort()));
+        System.setProperty("oceanview.smtp.starttls", "false");
+        System.setProperty("oceanview.smtp.password", "");
+        System.setProperty("oceanview.mail.from", "frontdesk@oceanview.test");
+        sender = new SmtpMailSender();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        sender.close();
+        server.close();
+        System.clearProperty("oceanview.smtp.host");
+        System.clearProperty("oceanview.smtp.port");
+        System.clearProperty("oceanview.smtp.starttls");
+        System.clearProperty("oceanview.smtp.password");
+        System.clearProperty("oceanview.mail.from");
+    }
+
+    @Test
+    public void testBurstReusesOneConnection() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            sender.send("guest" + i + "@example.com", "Reservation Confirmed", "Body " + i);
+        }
+
+        assertEquals(5, messages.get());
+        assertEquals(1, connections.get());
+    }
+
+    @Test
+    public void testClosedSenderRejectsSend() {
+        sender.close();
+        try {
+            sender.send("guest@example.com", "Hello", "Body");
+            fail("Expected MessagingException");
+        } catch (javax.mail.MessagingException e) {
+            assertEquals(0, connections.get());
+        }
+    }
+
+    private void acceptLoop() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                connections.incrementAndGet();
+                Thread session = new Thread(() -> converse(socket), "fake-smtp-session");
+                session.setDaemon(true);
+                session.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Just enough SMTP for JavaMail: greet, accept every command, count messages
+     */
+    private void converse(Socket socket) {
+        try (Socket s = socket;
+             BufferedReader in = new BufferedReader(
+                 new InputStreamReader(s.getInputStream(), StandardCharsets.US_ASCII));
+             PrintWriter out = new PrintWriter(s.getOutputStream(), true)) {
+
+            reply(out, "220 localhost fake SMTP");
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.toUpperCase();
+                if (command.startsWith("EHLO") || command.startsWith("HELO")) {
+                    reply(out, "250 localhost");
+                } else if (command.startsWith("DATA")) {
+                    reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                    while ((line = in.readLine()) != null && !line.equals(".")) {
+                        // discard message content
+                    }
+                    messages.incrementAndGet();
+                    reply(out, "250 OK queued");
+                } else if (command.startsWith("QUIT")) {
+                    reply(out, "221 Bye");
+                    return;
+                } else {
+                    reply(out, "250 OK");
+                }
+            }
+        } catch (IOException e) {
+            // client went away
+        }
+    }
+
+    private static void reply(PrintWriter out, String line) {
+        out.print(line + "\r\n");
+        out.flush();
+    }
+}
@@ -81,5 +81,60 @@ public class ValidationServiceTest {
     public void testValidReservationNumber() {
         assertTrue(validationService.isValidReservationNumber("OVR-2025-0001"));
         assertTrue(validationService.isValidReservationNumber("OVR-2024-9999"));
+        assertTrue(validationService.isValidReservationNumber("OVR-2025-10000"));
+        assertFalse(validationService.isValidReservationNumber("OVR-2025-001"));
+        assertFalse(validationService.isValidReservationNumber("OVR-2025-123456789012"));
+    }
+
+    // Scanners must accept exactly what the original regular expressions accepted
+    @Test
+    public void testScannersMatchOriginalRegexes() {
+        String[] inputs = {
+            "Jo", "J", "John Doe", "John\tDoe", "John\nDoe", "John\u000BDoe", "Jöhn", "John-Doe",
+            "0771234567", "077123456", "771234567", "07712345678", "17712345678", "+94771234567",
+            "+9477123456", "+947712345678", "+9477123456a", "077-1234567", "0771234567\n",
+            "abc", "ab", "user01", "user_01", "u".repeat(50), "u".repeat(51), "١٢٣٤",
+            "OVR-2025-0001", "OVR-2025-00012", "OVR-202-00012", "ovr-2025-0001", "OVR-2025_0001",
+            "OVR-2025-٠٠٠١", "OVR-2025-0001\n", "OVR-2025-12345678901", "OVR-2025-123456789012",
+            "OVR-2025-0001a", "a".repeat(100), "a".repeat(101)
+        };
+        for (String input : inputs) {
+            assertEquals(input, input.matches("^[a-zA-Z\\s]{2,100}$"),
+                validationService.isValidGuestName(input));
+            assertEquals(input, input.matches("^(\\+94|0)?[0-9]{9,10}$"),
+                validationService.isValidContactNumber(input));
+            assertEquals(input, input.matches("^[a-zA-Z0-9]{3,50}$"),
+                validationService.isValidUsername(input));
+            assertEquals(input, input.matches("^OVR-\\d{4}-\\d{4,11}$"),
+                validationService.isValidReservationNumber(input));
+        }
+    }
+
+    @Test
+    public void testParseDateMatchesIsoParser() {
+        String[] inputs = {
+            "2024-02-29", "2023-02-29", "2025-04-31", "2025-04-30", "2025-12-31", "2025-13-01",
+            "2025-00-10", "2025-01-00", "0000-01-01", "2025-1-01", "2025/01/01", " 2025-01-01",
+            "+10000-01-01", "-0001-01-01", "2025-01-01x", "2025-٠١-01", ""
+        };
+        for (String input : inputs) {
+            java.time.LocalDate expected;
+            try {
+                expected = java.time.LocalDate.parse(input);
+            } catch (java.time.format.DateTimeParseException e) {
+                expected = null;
+            }
+            assertEquals(input, expected, validationService.parseDate(input));
+        }
+        assertNull(validationService.parseDate(null));
+    }
+
+    @Test
+    public void testCheckOutDateAndNights() {
+        assertTrue(validationService.isValidCheckOutDate("2025-03-01", "2025-03-04"));
+        assertFalse(validationService.isValidCheckOutDate("2025-03-04", "2025-03-04"));
+        assertFalse(validationService.isValidCheckOutDate("2025-03-01", "2025-02-30"));
+        assertEquals(3, validationService.calculateNights("2025-03-01", "2025-03-04"));
+        assertEquals(0, validationService.calculateNights("bad", "2025-03-04"));
     }
 }